@@ -0,0 +1,90 @@
+// Comparación de codificaciones: JSON contra CBOR y Smile para listados de partidos y torneos.
+//
+// Cada iteración pide la misma página en los tres formatos (header Accept) y registra el tamaño
+// del cuerpo. El tiempo de serialización lo mide el servidor (JacksonCodecsConfig):
+//
+//   1. Arrancar con las métricas de codificación activas y una base con datos de torneo:
+//        mvn spring-boot:run -Dspring-boot.run.arguments="--torneo.codecs.metrics=true"
+//   2. k6 run -e USUARIO=admin -e CLAVE=... loadtest/codecs.js
+//
+// Al final se imprime, por formato, el tamaño medio recibido y el tiempo medio de serialización
+// (http.codec.write) y los bytes escritos (http.codec.bytes) que informa /actuator/metrics.
+// Los listados de partidos y la búsqueda de torneos (MatchResponseDTO y TournamentResponseDTO)
+// pasan por los convertidores; el catálogo de torneos se serializa una sola vez por versión, así
+// que para él solo cuenta el tamaño.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE = __ENV.BASE_URL || 'http://localhost:8080';
+const SIZE = __ENV.SIZE || 100;
+
+const FORMATOS = {
+    json: 'application/json',
+    cbor: 'application/cbor',
+    smile: 'application/x-jackson-smile',
+};
+
+const RUTAS = {
+    matches: `/api/matches?size=${SIZE}`,
+    search: `/api/tournaments/search?size=${SIZE}`,
+    catalog: `/api/tournaments?size=${SIZE}`,
+};
+
+const bytes = {};
+for (const formato of Object.keys(FORMATOS)) {
+    bytes[formato] = new Trend(`payload_bytes_${formato}`);
+}
+
+export const options = {
+    vus: 20,
+    duration: '1m',
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const login = http.post(`${BASE}/api/auth/login`, JSON.stringify({
+        username: __ENV.USUARIO,
+        password: __ENV.CLAVE,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(login, { 'login 200': (r) => r.status === 200 });
+    return { token: login.json('token') };
+}
+
+export default function (data) {
+    for (const [nombre, ruta] of Object.entries(RUTAS)) {
+        for (const [formato, accept] of Object.entries(FORMATOS)) {
+            const r = http.get(`${BASE}${ruta}`, {
+                headers: { Authorization: `Bearer ${data.token}`, Accept: accept },
+                responseType: 'binary',
+                tags: { nombre, formato },
+            });
+            check(r, {
+                'respuesta 200': (res) => res.status === 200,
+                'content-type pedido': (res) => (res.headers['Content-Type'] || '').startsWith(accept),
+            });
+            if (r.status === 200) {
+                bytes[formato].add(r.body.byteLength, { nombre });
+            }
+        }
+    }
+}
+
+export function teardown(data) {
+    const headers = { Authorization: `Bearer ${data.token}` };
+    for (const formato of Object.keys(FORMATOS)) {
+        const tiempo = http.get(`${BASE}/actuator/metrics/http.codec.write?tag=format:${formato}`, { headers });
+        const escritos = http.get(`${BASE}/actuator/metrics/http.codec.bytes?tag=format:${formato}`, { headers });
+        if (tiempo.status !== 200 || escritos.status !== 200) {
+            console.log(`${formato}: sin métricas (¿torneo.codecs.metrics=true?)`);
+            continue;
+        }
+        const t = Object.fromEntries(tiempo.json('measurements').map((m) => [m.statistic, m.value]));
+        const b = Object.fromEntries(escritos.json('measurements').map((m) => [m.statistic, m.value]));
+        console.log(`${formato}: ${t.COUNT} escrituras, ${(t.TOTAL_TIME / t.COUNT * 1e6).toFixed(1)} µs de media, `
+            + `${(b.TOTAL / b.COUNT).toFixed(0)} bytes de media`);
+    }
+}
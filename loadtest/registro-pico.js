@@ -0,0 +1,64 @@
+// Pico de registros: compara hilos de plataforma contra hilos virtuales (perfil virtual).
+//
+// Cada iteración registra un usuario (BCrypt + insert + correo @Async) y con el token
+// lista inscripciones (consultas JDBC por partición). Correr la misma prueba contra las dos configuraciones:
+//
+//   1. Base limpia y un SMTP de prueba (por ejemplo MailHog en localhost:1025), para no
+//      mandar correos reales:
+//        mvn spring-boot:run -Dspring-boot.run.arguments="--spring.mail.host=localhost --spring.mail.port=1025 --spring.mail.properties.mail.smtp.auth=false --spring.mail.properties.mail.smtp.starttls.enable=false"
+//   2. k6 run -e ETIQUETA=plataforma loadtest/registro-pico.js
+//   3. Reiniciar con el perfil virtual (mismos argumentos + --spring.profiles.active=virtual)
+//      y con -Djdk.tracePinnedThreads=short en la JVM.
+//   4. k6 run -e ETIQUETA=virtual loadtest/registro-pico.js
+//
+// Comparar http_req_duration (p95, p99), http_reqs/s y http_req_failed. Con el mismo tamaño
+// de pool, lo esperable es que los hilos de plataforma encolen en Tomcat (accept-count) y los
+// virtuales en el semáforo de conexiones; el log no debería mostrar trazas de pinning.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE = __ENV.BASE_URL || 'http://localhost:8080';
+const ETIQUETA = __ENV.ETIQUETA || 'sin-etiqueta';
+
+export const options = {
+    scenarios: {
+        pico: {
+            executor: 'ramping-arrival-rate',
+            startRate: 10,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 50, duration: '30s' },
+                { target: 400, duration: '1m' },
+                { target: 400, duration: '2m' },
+                { target: 0, duration: '30s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { ejecucion: ETIQUETA },
+};
+
+export default function () {
+    const nombre = `carga_${ETIQUETA}_${__VU}_${__ITER}_${Date.now()}`;
+    const registro = http.post(`${BASE}/api/auth/register`, JSON.stringify({
+        username: nombre,
+        password: 'clave-de-prueba',
+        email: `${nombre}@carga.local`,
+        role: 'PLAYER',
+    }), { headers: { 'Content-Type': 'application/json' }, tags: { nombre: 'register' } });
+    if (!check(registro, { 'registro 200': (r) => r.status === 200 })) {
+        return;
+    }
+
+    const token = registro.json('token');
+    const inscripciones = http.get(`${BASE}/api/inscriptions?size=20`, {
+        headers: { Authorization: `Bearer ${token}` },
+        tags: { nombre: 'inscriptions' },
+    });
+    check(inscripciones, { 'inscripciones 200': (r) => r.status === 200 });
+}
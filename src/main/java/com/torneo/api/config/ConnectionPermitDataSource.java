@@ -0,0 +1,115 @@
+package com.torneo.api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita con un semáforo cuántas conexiones pueden estar en uso a la vez.
+ *
+ * ✔ Con hilos virtuales ya no hay un pool de hilos de Tomcat que frene la concurrencia:
+ *   miles de peticiones pueden pedir conexión al mismo tiempo. El semáforo (justo, FIFO)
+ *   las pone en fila antes de llegar a Hikari, con tantos permisos como conexiones tiene el pool.
+ * ✔ El permiso se toma al pedir la conexión y se devuelve al cerrarla (una sola vez).
+ * ✔ Si no se consigue permiso dentro de permitTimeout se lanza SQLTransientConnectionException,
+ *   igual que cuando Hikari agota su connectionTimeout.
+ * ✔ Esperar el semáforo no fija el hilo virtual a su carrier (usa AbstractQueuedSynchronizer).
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permisos;
+    private final int maxPermits;
+    private final Duration permitTimeout;
+
+    public ConnectionPermitDataSource(DataSource targetDataSource, int maxPermits, Duration permitTimeout) {
+        super(targetDataSource);
+        this.permisos = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.permitTimeout = permitTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return conPermiso(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return conPermiso(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permisos.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permisos.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permisos.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No hay conexiones disponibles: " + permisos.getQueueLength()
+                        + " esperando y " + maxPermits + " en uso después de " + permitTimeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión", e);
+        }
+    }
+
+    private Connection conPermiso(Connection connection) {
+        AtomicBoolean liberado = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (method.getName().equals("close")) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (liberado.compareAndSet(false, true)) {
+                                permisos.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,64 @@
+package com.torneo.api.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender de Logback que cuenta los eventos descartados.
+ *
+ * ✔ Se configura en logback-spring.xml con neverBlock=true: si la cola está llena el evento se
+ *   descarta en vez de frenar al hilo que loguea.
+ * ✔ Cuenta el descarte cuando offer() de la cola devuelve false, no mirando la capacidad antes:
+ *   entre mirar y encolar otro hilo puede llenar la cola. AsyncAppenderBase encola en un método
+ *   privado, así que append() repite su lógica (umbral, preprocess, offer) con la misma cola.
+ * ✔ También cuenta los descartes por discardingThreshold (INFO y menores con la cola casi llena).
+ * ✔ Los descartes quedan en logging.events.dropped (ver LoggingConfig).
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DESCARTADOS = new LongAdder();
+
+    private BlockingQueue<ILoggingEvent> cola;
+
+    public static long droppedCount() {
+        return DESCARTADOS.sum();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void start() {
+        super.start();
+        if (!isStarted()) {
+            return;
+        }
+        try {
+            Field campo = AsyncAppenderBase.class.getDeclaredField("blockingQueue");
+            campo.setAccessible(true);
+            cola = (BlockingQueue<ILoggingEvent>) campo.get(this);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            addWarn("No se pudo acceder a la cola del AsyncAppender: los descartes no se van a contar", e);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent eventObject) {
+        if (cola == null || !isNeverBlock()) {
+            // Sin acceso a la cola, o bloqueando cuando está llena (nunca descarta por cola llena)
+            super.append(eventObject);
+            return;
+        }
+        if (getRemainingCapacity() < getDiscardingThreshold() && isDiscardable(eventObject)) {
+            DESCARTADOS.increment();
+            return;
+        }
+        preprocess(eventObject);
+        if (!cola.offer(eventObject)) {
+            DESCARTADOS.increment();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.torneo.api.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Permite forzar que una lectura vaya a la base primaria aunque corra en una
+ * transacción de solo lectura.
+ *
+ * ✔ Lo usan las lecturas que llenan estado compartido en memoria (catálogo, detalle,
+ *   índices de búsqueda, archivo, claves de idempotencia): si leyeran de una réplica
+ *   atrasada, el dato viejo quedaría cacheado hasta la próxima escritura.
+ * ✔ Sin réplicas configuradas no tiene efecto.
+ *
+ * El flag es por hilo: hay que llamarlo dentro del hilo que ejecuta la consulta.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARIA = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> lectura) {
+        Boolean anterior = PRIMARIA.get();
+        PRIMARIA.set(Boolean.TRUE);
+        try {
+            return lectura.get();
+        } finally {
+            if (anterior == null) {
+                PRIMARIA.remove();
+            } else {
+                PRIMARIA.set(anterior);
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable lectura) {
+        onPrimary(() -> {
+            lectura.run();
+            return null;
+        });
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARIA.get() != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.torneo.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Protecciones del endpoint GraphQL (ver GraphQlController).
+ *
+ * ✔ torneo.graphql.max-depth: profundidad máxima de una consulta (torneo → equipos → jugadores → ...).
+ * ✔ torneo.graphql.max-complexity: cantidad máxima de campos pedidos; se rechaza antes de ejecutar.
+ * ✔ Consultas persistidas (protocolo de Apollo): el cliente manda el sha256 de la consulta y solo
+ *   la primera vez el texto. El documento ya parseado y validado queda en un cache Caffeine acotado
+ *   por torneo.graphql.persisted-queries.max-size, así que las siguientes no se vuelven a parsear.
+ * ✔ Un texto cuyo sha256 no coincide con el id se ejecuta pero no se guarda, para que nadie pueda
+ *   asociar otra consulta a un hash ajeno.
+ * ✔ El cache implementa getPersistedQueryDocumentAsync; la variante sincrónica (deprecada, pero
+ *   abstracta y la que todavía llama ApolloPersistedQuerySupport en graphql-java 21) solo delega.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${torneo.graphql.max-depth:10}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${torneo.graphql.max-complexity:200}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueries(
+            @Value("${torneo.graphql.persisted-queries.max-size:1000}") long maxSize) {
+        PersistedQueryCache cache = new CaffeinePersistedQueryCache(maxSize);
+        return builder -> builder.configureGraphQl(graphQl ->
+                graphQl.preparsedDocumentProvider(new ApolloPersistedQuerySupport(cache)));
+    }
+
+    static class CaffeinePersistedQueryCache implements PersistedQueryCache {
+
+        private final Cache<Object, PreparsedDocumentEntry> documentos;
+
+        CaffeinePersistedQueryCache(long maxSize) {
+            this.documentos = Caffeine.newBuilder().maximumSize(maxSize).build();
+        }
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                Object persistedQueryId, ExecutionInput executionInput,
+                PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+            return CompletableFuture.completedFuture(buscar(persistedQueryId, executionInput, onCacheMiss));
+        }
+
+        @Override
+        @Deprecated
+        public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput,
+                                                                PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+            return buscar(persistedQueryId, executionInput, onCacheMiss);
+        }
+
+        private PreparsedDocumentEntry buscar(Object persistedQueryId, ExecutionInput executionInput,
+                                              PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+            PreparsedDocumentEntry guardado = documentos.getIfPresent(persistedQueryId);
+            if (guardado != null) {
+                return guardado;
+            }
+            String query = executionInput.getQuery();
+            if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                throw new PersistedQueryNotFound(persistedQueryId);
+            }
+            PreparsedDocumentEntry entrada = onCacheMiss.apply(query);
+            if (!entrada.hasErrors() && sha256(query).equalsIgnoreCase(String.valueOf(persistedQueryId))) {
+                documentos.put(persistedQueryId, entrada);
+            }
+            return entrada;
+        }
+
+        private static String sha256(String query) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
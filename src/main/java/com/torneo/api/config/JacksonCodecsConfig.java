@@ -0,0 +1,176 @@
+package com.torneo.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.enums.WireFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificaciones binarias de las respuestas (CBOR y Smile), elegidas por el header Accept.
+ *
+ * ✔ Los convertidores CBOR y Smile usan la misma configuración de Jackson que el JSON
+ *   (spring.jackson.*), así el contenido es idéntico; solo cambia la codificación.
+ * ✔ Quedan ubicados después del convertidor JSON: sin Accept o con comodines se sigue
+ *   respondiendo JSON, y los controladores no cambian.
+ * ✔ El catálogo de torneos, que se sirve ya serializado, tiene sus propias variantes
+ *   (ver TournamentCatalogCache).
+ * ✔ Con torneo.codecs.metrics=true cada escritura registra su tiempo (http.codec.write) y sus
+ *   bytes (http.codec.bytes) por formato, para comparar las codificaciones con loadtest/codecs.js.
+ */
+@Configuration
+public class JacksonCodecsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean metrics;
+
+    public JacksonCodecsConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${torneo.codecs.metrics:false}") boolean metrics) {
+        this.builders = builders;
+        this.meterRegistry = meterRegistry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(c -> c instanceof MappingJackson2CborHttpMessageConverter
+                || c instanceof MappingJackson2SmileHttpMessageConverter);
+
+        int json = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i;
+                break;
+            }
+        }
+        if (json >= 0 && metrics) {
+            ObjectMapper mapper = ((MappingJackson2HttpMessageConverter) converters.get(json)).getObjectMapper();
+            converters.set(json, jsonConverter(mapper, medicion(WireFormat.JSON)));
+        }
+
+        List<HttpMessageConverter<?>> binarios = new ArrayList<>();
+        binarios.add(cborConverter(builders.getObject().cbor().build(), medicion(WireFormat.CBOR)));
+        binarios.add(smileConverter(builders.getObject().smile().build(), medicion(WireFormat.SMILE)));
+        converters.addAll(json >= 0 ? json + 1 : converters.size(), binarios);
+    }
+
+    private Medicion medicion(WireFormat formato) {
+        MeterRegistry registry = metrics ? meterRegistry.getIfAvailable() : null;
+        if (registry == null) {
+            return null;
+        }
+        return new Medicion(
+                Timer.builder("http.codec.write")
+                        .description("Tiempo de serialización del cuerpo de la respuesta")
+                        .tag("format", formato.getSuffix())
+                        .register(registry),
+                DistributionSummary.builder("http.codec.bytes")
+                        .description("Tamaño del cuerpo de la respuesta")
+                        .baseUnit("bytes")
+                        .tag("format", formato.getSuffix())
+                        .register(registry));
+    }
+
+    private static MappingJackson2HttpMessageConverter jsonConverter(ObjectMapper mapper, Medicion medicion) {
+        return new MappingJackson2HttpMessageConverter(mapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                Medicion.escribir(medicion, outputMessage, salida -> super.writeInternal(object, type, salida));
+            }
+        };
+    }
+
+    private static MappingJackson2CborHttpMessageConverter cborConverter(ObjectMapper mapper, Medicion medicion) {
+        return new MappingJackson2CborHttpMessageConverter(mapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                Medicion.escribir(medicion, outputMessage, salida -> super.writeInternal(object, type, salida));
+            }
+        };
+    }
+
+    private static MappingJackson2SmileHttpMessageConverter smileConverter(ObjectMapper mapper, Medicion medicion) {
+        return new MappingJackson2SmileHttpMessageConverter(mapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                Medicion.escribir(medicion, outputMessage, salida -> super.writeInternal(object, type, salida));
+            }
+        };
+    }
+
+    private record Medicion(Timer tiempo, DistributionSummary bytes) {
+
+        static void escribir(Medicion medicion, HttpOutputMessage outputMessage, Escritura escritura) throws IOException {
+            if (medicion == null) {
+                escritura.escribir(outputMessage);
+                return;
+            }
+            ContadorDeBytes contador = new ContadorDeBytes(outputMessage.getBody());
+            HttpOutputMessage contado = new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return contador;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            };
+            long inicio = System.nanoTime();
+            try {
+                escritura.escribir(contado);
+            } finally {
+                medicion.tiempo().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                medicion.bytes().record(contador.total);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        void escribir(HttpOutputMessage salida) throws IOException;
+    }
+
+    private static final class ContadorDeBytes extends FilterOutputStream {
+
+        private long total;
+
+        ContadorDeBytes(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            total++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            total += len;
+        }
+    }
+}
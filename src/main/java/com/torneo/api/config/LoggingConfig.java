@@ -0,0 +1,46 @@
+package com.torneo.api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Soporte del log estructurado (logback-spring.xml).
+ *
+ * ✔ Expone como métrica los eventos que el appender asíncrono descartó por cola llena.
+ * ✔ Copia el MDC (requestId, user, tournamentId) a las tareas @Async, así el log del envío
+ *   de un correo queda asociado a la petición que lo originó.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public MeterBinder droppedLogEventsMetric() {
+        return registry -> FunctionCounter.builder("logging.events.dropped", CountingAsyncAppender.class,
+                        appender -> CountingAsyncAppender.droppedCount())
+                .description("Eventos de log descartados por el appender asíncrono con la cola llena")
+                .register(registry);
+    }
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return tarea -> {
+            Map<String, String> contexto = MDC.getCopyOfContextMap();
+            return () -> {
+                if (contexto != null) {
+                    MDC.setContextMap(contexto);
+                }
+                try {
+                    tarea.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.torneo.api.config;
+
+import com.torneo.api.enums.RateLimitKey;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del rate limiting (prefijo torneo.rate-limit), ver RateLimitFilter.
+ *
+ * ✔ policies: se evalúan en orden y aplica la primera que coincide con el método y la ruta.
+ *   Cada una permite capacity peticiones por period, con ráfagas de hasta capacity.
+ * ✔ maxBuckets: tope de baldes en memoria; idleTimeout: un balde lleno sin uso durante
+ *   este tiempo se descarta (volver a crearlo lleno no cambia nada).
+ */
+@Data
+@ConfigurationProperties(prefix = "torneo.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+        private String name;
+        // Vacío: cualquier método
+        private String method;
+        private String path;
+        private int capacity;
+        private Duration period;
+        private RateLimitKey key = RateLimitKey.USER;
+    }
+}
@@ -0,0 +1,124 @@
+package com.torneo.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ruteo de lecturas a réplicas. Solo se activa con torneo.datasource.replicas.enabled=true;
+ * sin esa propiedad la aplicación usa el DataSource de siempre (spring.datasource).
+ *
+ * ✔ La primaria se arma con spring.datasource y spring.datasource.hikari.
+ * ✔ Cada réplica tiene su propio pool Hikari (replica-1, replica-2...).
+ * ✔ El DataSource que usan JPA y Flyway es un LazyConnectionDataSourceProxy sobre el ruteo.
+ * ✔ El atraso de las réplicas se mide cada checkInterval.
+ * ✔ Hibernate devuelve la conexión al terminar cada transacción: con open-in-view la sesión
+ *   dura toda la petición, y si retuviera la conexión de la primera lectura (réplica) las
+ *   escrituras siguientes de la misma petición irían a la réplica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "torneo.datasource.replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadReplicaConfig implements SchedulingConfigurer {
+
+    private final ReplicaDataSourceProperties replicaProperties;
+    private final ObjectProvider<ReplicaRoutingDataSource> routing;
+
+    public ReadReplicaConfig(ReplicaDataSourceProperties replicaProperties,
+                             ObjectProvider<ReplicaRoutingDataSource> routing) {
+        this.replicaProperties = replicaProperties;
+        this.routing = routing;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             FlywayProperties flywayProperties) {
+        if (replicaProperties.getPools().isEmpty()) {
+            throw new IllegalStateException("torneo.datasource.replicas.enabled=true requiere al menos un pool en torneo.datasource.replicas.pools");
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        int numero = 1;
+        for (ReplicaDataSourceProperties.Pool pool : replicaProperties.getPools()) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + numero++);
+            replica.setJdbcUrl(pool.getUrl());
+            replica.setUsername(pool.getUsername() != null ? pool.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(pool.getPassword() != null ? pool.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(pool.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            if (replicaProperties.isMigrate()) {
+                migrate(replica, pool.getUrl(), flywayProperties);
+            }
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getStickyWindow(), replicaProperties.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(() -> routing.getObject().checkReplicas(), replicaProperties.getCheckInterval());
+    }
+
+    /**
+     * Aplica en la réplica las mismas migraciones que Flyway aplica en la primaria.
+     * Solo para bases locales independientes; una réplica real recibe el esquema por replicación.
+     */
+    private static void migrate(HikariDataSource replica, String url, FlywayProperties flywayProperties) {
+        String vendor = DatabaseDriver.fromJdbcUrl(url).getId();
+        String[] locations = flywayProperties.getLocations().stream()
+                .map(location -> location.replace("{vendor}", vendor))
+                .toArray(String[]::new);
+        // La réplica es de solo lectura para la aplicación, pero Flyway necesita escribir: usa sus
+        // propias conexiones (sin pool; abre más de una a la vez para el historial)
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .locations(locations)
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .baselineVersion(flywayProperties.getBaselineVersion())
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,38 @@
+package com.torneo.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura (prefijo torneo.datasource.replicas).
+ *
+ * ✔ pools: una entrada por réplica; usuario y contraseña, si faltan, son los de spring.datasource.
+ * ✔ stickyWindow: después de escribir, las lecturas de ese usuario van a la primaria
+ *   durante este tiempo (leer lo que uno mismo escribió).
+ * ✔ maxLag: una réplica con más atraso que esto deja de recibir lecturas.
+ * ✔ migrate: aplica las migraciones de Flyway también en cada réplica. Solo para probar
+ *   en local con bases independientes (por ejemplo dos H2); con replicación real va en false.
+ */
+@Data
+@ConfigurationProperties(prefix = "torneo.datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+    private List<Pool> pools = new ArrayList<>();
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration checkInterval = Duration.ofSeconds(2);
+    private boolean migrate;
+
+    @Data
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
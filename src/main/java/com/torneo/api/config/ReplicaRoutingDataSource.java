@@ -0,0 +1,247 @@
+package com.torneo.api.config;
+
+import com.torneo.api.dto.DataSourcePoolStatsDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que reparte las conexiones entre la base primaria y las réplicas de lectura.
+ *
+ * ✔ Las transacciones @Transactional(readOnly = true) van a una réplica sana, por turnos.
+ * ✔ Todo lo demás (escrituras, Flyway, validación de Hibernate, accesos sin transacción) va a la primaria.
+ * ✔ Después de que un usuario confirma una escritura, sus lecturas van a la primaria durante
+ *   stickyWindow, así ve su propio cambio aunque la réplica venga atrasada.
+ * ✔ Una réplica con atraso mayor a maxLag, o que no responde, deja de recibir lecturas hasta
+ *   el siguiente chequeo; si no queda ninguna, las lecturas van a la primaria.
+ *
+ * Tiene que usarse detrás de un LazyConnectionDataSourceProxy: la conexión real se pide recién
+ * en la primera sentencia, cuando ya se sabe si la transacción es de solo lectura.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration stickyWindow;
+    private final Duration maxLag;
+
+    private final AtomicInteger turno = new AtomicInteger();
+    private final Map<String, Long> ultimaEscritura = new ConcurrentHashMap<>();
+
+    private final LongAdder primaryCheckouts = new LongAdder();
+    private final LongAdder primaryStickyReads = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    Duration stickyWindow, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.stickyWindow = stickyWindow;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscritura();
+            return primaria();
+        }
+        if (DataSourceRouting.isPrimaryForced()) {
+            return primaria();
+        }
+        if (escribioRecien()) {
+            primaryStickyReads.increment();
+            return primaria();
+        }
+
+        Replica replica = siguienteReplica();
+        if (replica == null) {
+            primaryFallbacks.increment();
+            return primaria();
+        }
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            replica.checkouts.increment();
+            return connection;
+        } catch (SQLException e) {
+            // La réplica se cayó entre chequeos: se la saca hasta el próximo y la lectura sigue en la primaria
+            replica.healthy = false;
+            replica.fallbacks.increment();
+            return primaria();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Las credenciales se configuran por pool");
+    }
+
+    /**
+     * Mide el atraso de cada réplica y actualiza cuáles pueden recibir lecturas.
+     * También descarta las marcas de escritura que ya salieron de la ventana.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            Long lag = medirAtraso(replica.dataSource);
+            replica.lagSeconds = lag;
+            replica.healthy = lag != null && lag <= maxLag.toSeconds();
+        }
+        long limite = System.nanoTime() - stickyWindow.toNanos();
+        ultimaEscritura.values().removeIf(nanos -> nanos < limite);
+    }
+
+    /**
+     * Suma de los tamaños máximos de todos los pools: la cantidad de conexiones que pueden
+     * estar en uso a la vez entre primaria y réplicas.
+     */
+    public int getMaximumPoolSize() {
+        return VirtualThreadConfig.poolSize(primary)
+                + replicas.stream().mapToInt(replica -> VirtualThreadConfig.poolSize(replica.dataSource)).sum();
+    }
+
+    public List<DataSourcePoolStatsDTO> stats() {
+        List<DataSourcePoolStatsDTO> stats = new ArrayList<>();
+        stats.add(poolStats(primary, "PRIMARY", true, null,
+                primaryCheckouts.sum(), primaryStickyReads.sum(), primaryFallbacks.sum()));
+        for (Replica replica : replicas) {
+            stats.add(poolStats(replica.dataSource, "REPLICA", replica.healthy, replica.lagSeconds,
+                    replica.checkouts.sum(), 0, replica.fallbacks.sum()));
+        }
+        return stats;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Cierra los pools de réplicas; el de la primaria es un bean propio y lo cierra Spring.
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private Connection primaria() throws SQLException {
+        primaryCheckouts.increment();
+        return primary.getConnection();
+    }
+
+    private Replica siguienteReplica() {
+        int cantidad = replicas.size();
+        int inicio = Math.floorMod(turno.getAndIncrement(), Math.max(cantidad, 1));
+        for (int i = 0; i < cantidad; i++) {
+            Replica replica = replicas.get((inicio + i) % cantidad);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marca al usuario actual cuando confirma una transacción de escritura.
+     * Sin usuario autenticado (Flyway, tareas programadas) no hay nada que marcar.
+     */
+    private void registrarEscritura() {
+        String usuario = usuarioActual();
+        if (usuario == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ultimaEscritura.put(usuario, System.nanoTime());
+            }
+        });
+    }
+
+    private boolean escribioRecien() {
+        String usuario = usuarioActual();
+        if (usuario == null) {
+            return false;
+        }
+        Long nanos = ultimaEscritura.get(usuario);
+        return nanos != null && System.nanoTime() - nanos < stickyWindow.toNanos();
+    }
+
+    private static String usuarioActual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Atraso en segundos, o null si la réplica no responde o su replicación está detenida.
+     * En MySQL se lee Seconds_Behind_Source; una base sin replicación configurada (por ejemplo
+     * una H2 local) se considera al día mientras acepte conexiones.
+     */
+    private static Long medirAtraso(HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String producto = connection.getMetaData().getDatabaseProductName();
+            if (!"MySQL".equalsIgnoreCase(producto)) {
+                return connection.isValid(1) ? 0L : null;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static DataSourcePoolStatsDTO poolStats(HikariDataSource dataSource, String role, boolean healthy,
+                                                    Long lagSeconds, long checkouts, long stickyReads, long fallbacks) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return DataSourcePoolStatsDTO.builder()
+                .pool(dataSource.getPoolName())
+                .role(role)
+                .healthy(healthy)
+                .lagSeconds(lagSeconds)
+                .checkouts(checkouts)
+                .stickyReads(stickyReads)
+                .fallbacks(fallbacks)
+                .active(pool == null ? 0 : pool.getActiveConnections())
+                .idle(pool == null ? 0 : pool.getIdleConnections())
+                .total(pool == null ? 0 : pool.getTotalConnections())
+                .waiting(pool == null ? 0 : pool.getThreadsAwaitingConnection())
+                .build();
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final LongAdder checkouts = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private volatile boolean healthy = true;
+        private volatile Long lagSeconds;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.torneo.api.config;
 
 import com.torneo.api.security.JwtAuthenticationFilter;
+import com.torneo.api.security.LoggingContextFilter;
+import com.torneo.api.security.RateLimitFilter;
 import com.torneo.api.services.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,15 +27,19 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * - Define rutas públicas y protegidas.
  * - Establece el uso de JWT (sin sesiones).
  * - Agrega el filtro personalizado para validar tokens.
+ * - Aplica el rate limiting (RateLimitFilter) ya con el usuario del token identificado.
  * - Registra el proveedor de autenticación y codificador de contraseñas.
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoggingContextFilter loggingContextFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsServiceImpl userDetailsService;
 
     @Bean
@@ -58,11 +66,16 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // El despacho ASYNC de las exportaciones en streaming ya pasó la autorización en la petición original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/login", "/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Después del JWT, para que el MDC ya tenga el usuario
+                .addFilterAfter(loggingContextFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, LoggingContextFilter.class)
                 .build();
     }
 }
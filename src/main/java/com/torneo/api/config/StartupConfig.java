@@ -0,0 +1,38 @@
+package com.torneo.api.config;
+
+import com.torneo.api.controllers.AuthController;
+import com.torneo.api.controllers.InscriptionController;
+import com.torneo.api.controllers.ResultController;
+import com.torneo.api.controllers.TournamentController;
+import com.torneo.api.services.IdempotencyService;
+import com.torneo.api.services.MatchEventIngestService;
+import com.torneo.api.services.ReminderService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Arranque rápido (perfil prod, spring.main.lazy-initialization=true).
+ *
+ * ✔ Con inicialización diferida cada bean se crea recién cuando alguien lo usa.
+ * ✔ Quedan fuera los beans calientes: los que atienden los picos de un torneo (registro,
+ *   catálogo, inscripciones, resultados), que arrastran con ellos JPA, seguridad y los servicios
+ *   que usan, para que la primera petición no pague la inicialización.
+ * ✔ También quedan fuera los beans con tareas @Scheduled: si fueran diferidos nadie los crearía
+ *   y sus tareas no se programarían nunca.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter hotBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AuthController.class,
+                TournamentController.class,
+                InscriptionController.class,
+                ResultController.class,
+                ReminderService.class,
+                IdempotencyService.class,
+                MatchEventIngestService.class);
+    }
+}
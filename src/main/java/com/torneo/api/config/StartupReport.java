@@ -0,0 +1,95 @@
+package com.torneo.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Informe de tiempo de arranque, escrito en el log cuando la aplicación queda lista.
+ *
+ * ✔ Tiempo total desde que arrancó la JVM y tiempo del contexto de Spring.
+ * ✔ Indica si corrió con AOT, con archivo CDS y con inicialización diferida.
+ * ✔ Lista los beans que más tardaron en crearse (TorneoApiApplication registra los pasos
+ *   con BufferingApplicationStartup).
+ * ✔ Con torneo.startup.budget compara el total contra el presupuesto; con
+ *   torneo.startup.exit-after-report=true la aplicación termina después del informe, con
+ *   código 1 si se pasó. Así lo usa el perfil Maven startup para cortar el build.
+ */
+@Slf4j
+@Component
+public class StartupReport {
+
+    private static final int TOP_BEANS = 10;
+
+    private final Duration budget;
+    private final boolean exitAfterReport;
+    private final boolean lazyInitialization;
+
+    public StartupReport(@Value("${torneo.startup.budget:0s}") Duration budget,
+                         @Value("${torneo.startup.exit-after-report:false}") boolean exitAfterReport,
+                         @Value("${spring.main.lazy-initialization:false}") boolean lazyInitialization) {
+        this.budget = budget;
+        this.exitAfterReport = exitAfterReport;
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        Duration total = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+
+        log.info("Arranque: total (JVM + contexto) {} ms, contexto {} ms, AOT {}, CDS {}, inicialización diferida {}",
+                total.toMillis(), event.getTimeTaken().toMillis(), AotDetector.useGeneratedArtifacts(), cds,
+                lazyInitialization);
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup buffering) {
+            imprimirBeansLentos(buffering.drainBufferedTimeline());
+        }
+
+        boolean excedido = !budget.isZero() && total.compareTo(budget) > 0;
+        if (!budget.isZero()) {
+            if (excedido) {
+                log.warn("Arranque: se excedió el presupuesto de {} ms", budget.toMillis());
+            } else {
+                log.info("Arranque: dentro del presupuesto de {} ms", budget.toMillis());
+            }
+        }
+        if (exitAfterReport) {
+            ConfigurableApplicationContext context = event.getApplicationContext();
+            System.exit(SpringApplication.exit(context, () -> excedido ? 1 : 0));
+        }
+    }
+
+    private static void imprimirBeansLentos(StartupTimeline timeline) {
+        List<StartupTimeline.TimelineEvent> lentos = timeline.getEvents().stream()
+                .filter(e -> e.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(TOP_BEANS)
+                .toList();
+        for (StartupTimeline.TimelineEvent evento : lentos) {
+            log.info("Arranque: bean {} en {} ms", nombreDelBean(evento.getStartupStep()), evento.getDuration().toMillis());
+        }
+    }
+
+    private static String nombreDelBean(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName")) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
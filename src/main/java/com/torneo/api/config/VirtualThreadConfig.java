@@ -0,0 +1,65 @@
+package com.torneo.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Ajustes que solo aplican cuando la aplicación corre con hilos virtuales
+ * (spring.threads.virtual.enabled=true, perfil "virtual").
+ *
+ * ✔ Con esa propiedad Spring Boot ya atiende las peticiones de Tomcat, las tareas @Scheduled
+ *   y los métodos @Async (correos) en hilos virtuales.
+ * ✔ Envuelve el DataSource principal en un ConnectionPermitDataSource: la concurrencia contra la
+ *   base la fija el tamaño del pool, no la cantidad de hilos.
+ * ✔ Los permisos salen de torneo.datasource.permits; si no se indica, del tamaño máximo del pool
+ *   (con réplicas, la suma de todos los pools).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Valor por defecto de Hikari: mientras el pool no arranca, getMaximumPoolSize() devuelve -1
+    static final int HIKARI_MAXIMUM_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionPermitPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConnectionPermitDataSource) {
+                    return bean;
+                }
+                int permisos = environment.getProperty("torneo.datasource.permits", Integer.class, tamanoDelPool(dataSource));
+                Duration espera = environment.getProperty("torneo.datasource.permit-timeout", Duration.class, Duration.ofSeconds(30));
+                return new ConnectionPermitDataSource(dataSource, permisos, espera);
+            }
+        };
+    }
+
+    private static int tamanoDelPool(DataSource dataSource) {
+        DataSource destino = dataSource instanceof DelegatingDataSource delegating
+                ? delegating.getTargetDataSource()
+                : dataSource;
+        if (destino instanceof HikariDataSource hikari) {
+            return poolSize(hikari);
+        }
+        if (destino instanceof ReplicaRoutingDataSource routing) {
+            return routing.getMaximumPoolSize();
+        }
+        return HIKARI_MAXIMUM_POOL_SIZE;
+    }
+
+    static int poolSize(HikariDataSource hikari) {
+        return hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_MAXIMUM_POOL_SIZE;
+    }
+}
@@ -5,11 +5,9 @@ import com.torneo.api.models.User;
 import com.torneo.api.services.AuthService;
 import com.torneo.api.services.EmailService;
 import io.swagger.v3.oas.annotations.Parameter;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -55,13 +53,10 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<LoginResponse> register(
             @Valid @RequestBody @Parameter(description = "Datos para registrar un nuevo usuario") RegisterRequest request) {
-        try {
-            // Enviar correo de bienvenida
-            emailService.enviarCorreoRegistroHtml(request.getEmail(), request.getUsername());
-        } catch (MessagingException e) {
-            System.err.println(e);
-        }
-        return ResponseEntity.ok(authService.register(request));
+        LoginResponse respuesta = authService.register(request);
+        // Enviar correo de bienvenida (asíncrono: no demora la respuesta)
+        emailService.enviarCorreoRegistroHtml(request.getEmail(), request.getUsername());
+        return ResponseEntity.ok(respuesta);
     }
 
     @PutMapping("/update")
@@ -73,12 +68,8 @@ public class AuthController {
             @ApiResponse(responseCode = "500", description = "Error en el servidor")
     })
     public ResponseEntity<?> updateProfile(@Valid @RequestBody UpdateUserRequest request) {
-        try {
-            authService.updateAuthenticatedUser(request);
-            return ResponseEntity.ok("Perfil actualizado con éxito");
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error al actualizar el perfil");
-        }
+        authService.updateAuthenticatedUser(request);
+        return ResponseEntity.ok("Perfil actualizado con éxito");
     }
 
 
@@ -111,8 +102,10 @@ public class AuthController {
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping()
-    public ResponseEntity<List<UserResponse>> getAllUser()
+    public ResponseEntity<CursorPageDTO<UserResponse>> getAllUser(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size)
     {
-        return ResponseEntity.ok((authService.getAllUsers()));
+        return ResponseEntity.ok(authService.getAllUsers(cursor, size));
     }
 }
@@ -0,0 +1,44 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.dto.CacheRegionStatsDTO;
+import com.torneo.api.services.ReferenceCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST para consultar el estado del cache de segundo nivel.
+ * Solo accesible por usuarios con rol 'ADMIN'.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final ReferenceCacheService referenceCacheService;
+
+    /**
+     * Endpoint para obtener aciertos y fallos de cada región del cache.
+     *
+     * @return ResponseEntity con las estadísticas por región
+     */
+    @Operation(summary = "Estadísticas del cache",
+            description = "Este endpoint devuelve aciertos, fallos y cantidad de elementos de cada región del cache de segundo nivel.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getStats() {
+        return ResponseEntity.ok(referenceCacheService.getStats());
+    }
+}
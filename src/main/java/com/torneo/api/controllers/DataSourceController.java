@@ -0,0 +1,50 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.config.ReplicaRoutingDataSource;
+import com.torneo.api.dto.DataSourcePoolStatsDTO;
+import com.torneo.api.exceptions.NotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST para consultar el estado de los pools de conexiones (primaria y réplicas).
+ * Solo accesible por usuarios con rol 'ADMIN'.
+ */
+@RestController
+@RequestMapping("/api/datasources")
+@RequiredArgsConstructor
+public class DataSourceController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
+    /**
+     * Endpoint para obtener conexiones entregadas, lecturas desviadas y atraso de cada pool.
+     *
+     * @return ResponseEntity con las estadísticas por pool
+     */
+    @Operation(summary = "Estadísticas de pools de conexiones",
+            description = "Este endpoint devuelve, por pool, conexiones entregadas, lecturas enviadas a la primaria, atraso de réplica y estado de Hikari.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<List<DataSourcePoolStatsDTO>> getStats() {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        if (routing == null) {
+            throw new NotFoundException("El ruteo a réplicas de lectura está desactivado");
+        }
+        return ResponseEntity.ok(routing.stats());
+    }
+}
@@ -0,0 +1,131 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.enums.ExportFormat;
+import com.torneo.api.services.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Controlador REST para las exportaciones masivas de resultados y partidos.
+ * Pensado para los procesos de análisis que bajan todas las filas de una vez.
+ * Solo accesible por usuarios con rol 'ADMIN'.
+ *
+ * La respuesta se escribe en streaming a medida que se leen las filas, en NDJSON o CSV,
+ * comprimida con gzip si el cliente lo acepta.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @FunctionalInterface
+    private interface ExportWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Endpoint para exportar los resultados.
+     *
+     * @param format formato de salida (NDJSON o CSV)
+     * @param tournamentId torneo a exportar (opcional)
+     * @param from fecha de inicio del torneo desde (opcional)
+     * @param to fecha de inicio del torneo hasta (opcional)
+     * @param acceptEncoding si acepta gzip (con q mayor a 0), la respuesta se comprime
+     * @return ResponseEntity con el cuerpo escrito en streaming
+     */
+    @Operation(summary = "Exportar resultados",
+            description = "Este endpoint exporta los resultados en NDJSON o CSV, en streaming. Se puede filtrar por torneo y por fecha de inicio del torneo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación iniciada"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado"),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/results")
+    public ResponseEntity<StreamingResponseBody> exportResults(
+            @RequestParam(defaultValue = "NDJSON") @Parameter(description = "Formato de salida: NDJSON o CSV") ExportFormat format,
+            @RequestParam(required = false) @Parameter(description = "ID del torneo") Long tournamentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio del torneo desde (yyyy-MM-dd)") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio del torneo hasta (yyyy-MM-dd)") LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return exportResponse("results", format, acceptEncoding,
+                out -> exportService.exportResults(tournamentId, from, to, format, out));
+    }
+
+    /**
+     * Endpoint para exportar los partidos.
+     *
+     * @param format formato de salida (NDJSON o CSV)
+     * @param tournamentId torneo a exportar (opcional)
+     * @param from fecha de inicio del torneo desde (opcional)
+     * @param to fecha de inicio del torneo hasta (opcional)
+     * @param acceptEncoding si acepta gzip (con q mayor a 0), la respuesta se comprime
+     * @return ResponseEntity con el cuerpo escrito en streaming
+     */
+    @Operation(summary = "Exportar partidos",
+            description = "Este endpoint exporta los partidos en NDJSON o CSV, en streaming. Se puede filtrar por torneo y por fecha de inicio del torneo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación iniciada"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado"),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/matches")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @RequestParam(defaultValue = "NDJSON") @Parameter(description = "Formato de salida: NDJSON o CSV") ExportFormat format,
+            @RequestParam(required = false) @Parameter(description = "ID del torneo") Long tournamentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio del torneo desde (yyyy-MM-dd)") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio del torneo hasta (yyyy-MM-dd)") LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return exportResponse("matches", format, acceptEncoding,
+                out -> exportService.exportMatches(tournamentId, from, to, format, out));
+    }
+
+    /**
+     * Arma la respuesta en streaming. El cuerpo lo escribe un hilo asíncrono de Spring MVC,
+     * por eso la transacción del servicio se abre ahí y no en el hilo de la petición.
+     * Con gzip se usa sync flush para que cada vaciado del servicio llegue al cliente.
+     */
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format,
+                                                                 String acceptEncoding, ExportWriter writer) {
+        boolean gzip = HttpNegotiation.aceptaGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build().toString())
+                .cacheControl(CacheControl.noStore())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return builder.body(writer::write);
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true);
+            writer.write(gzipOut);
+            gzipOut.finish();
+        });
+    }
+}
@@ -0,0 +1,221 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+import com.torneo.api.repository.InscriptionRepository;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
+import com.torneo.api.repository.TeamRepository;
+import com.torneo.api.repository.TeamXPlayerRepository;
+import com.torneo.api.repository.TournamentRepository;
+import com.torneo.api.repository.UserRepository;
+import com.torneo.api.repository.projections.MatchNode;
+import com.torneo.api.repository.projections.ResultSummary;
+import com.torneo.api.repository.projections.RosterEntryNode;
+import com.torneo.api.repository.projections.TeamNode;
+import com.torneo.api.repository.projections.TournamentNode;
+import com.torneo.api.repository.projections.UserNode;
+import org.dataloader.DataLoader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador GraphQL de solo lectura (POST /graphql, esquema en resources/graphql).
+ *
+ * ✔ Cada tipo se lee con proyecciones: solo las columnas del esquema, sin cargar entidades.
+ * ✔ Torneos, equipos y usuarios por ID se piden a DataLoaders compartidos: todos los campos de un
+ *   mismo nivel que apuntan a equipos (firstTeam, winnerTeam, team del jugador...) salen en un solo
+ *   IN (...).
+ * ✔ Las listas (equipos de un torneo, plantel, partidos, resultados) son @BatchMapping: una consulta
+ *   por campo para todos los padres del nivel.
+ * ✔ Los límites de profundidad y complejidad y el cache de consultas persistidas están en GraphQlConfig.
+ */
+@Controller
+public class GraphQlController {
+
+    private final TournamentRepository tournamentRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final TeamXPlayerRepository teamXPlayerRepository;
+    private final InscriptionRepository inscriptionRepository;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
+
+    public GraphQlController(BatchLoaderRegistry registry,
+                             TournamentRepository tournamentRepository,
+                             TeamRepository teamRepository,
+                             UserRepository userRepository,
+                             TeamXPlayerRepository teamXPlayerRepository,
+                             InscriptionRepository inscriptionRepository,
+                             MatchRepository matchRepository,
+                             ResultRepository resultRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.teamRepository = teamRepository;
+        this.userRepository = userRepository;
+        this.teamXPlayerRepository = teamXPlayerRepository;
+        this.inscriptionRepository = inscriptionRepository;
+        this.matchRepository = matchRepository;
+        this.resultRepository = resultRepository;
+
+        registry.forTypePair(Long.class, TournamentNode.class).registerMappedBatchLoader((ids, env) ->
+                Mono.fromSupplier(() -> porId(tournamentRepository.findNodesByIdIn(ids), TournamentNode::getId)));
+        registry.forTypePair(Long.class, TeamNode.class).registerMappedBatchLoader((ids, env) ->
+                Mono.fromSupplier(() -> porId(teamRepository.findNodesByIdIn(ids), TeamNode::getId)));
+        registry.forTypePair(Long.class, UserNode.class).registerMappedBatchLoader((ids, env) ->
+                Mono.fromSupplier(() -> porId(userRepository.findNodesByIdIn(ids), UserNode::getId)));
+    }
+
+    // ----- Consultas raíz -----
+
+    @QueryMapping
+    public CompletableFuture<TournamentNode> tournament(@Argument Long id, DataLoader<Long, TournamentNode> tournaments) {
+        return tournaments.load(id);
+    }
+
+    @QueryMapping
+    public List<TournamentNode> tournaments(@Argument GamesState state, @Argument GamesCategory category,
+                                           @Argument Integer first, @Argument Long after) {
+        return tournamentRepository.findNodePage(state, category, after == null ? 0L : after,
+                PageRequest.of(0, CursorPageDTO.clampSize(first)));
+    }
+
+    @QueryMapping
+    public CompletableFuture<TeamNode> team(@Argument Long id, DataLoader<Long, TeamNode> teams) {
+        return teams.load(id);
+    }
+
+    @QueryMapping
+    public MatchNode match(@Argument Long id) {
+        return matchRepository.findNodesByIdIn(List.of(id)).stream().findFirst().orElse(null);
+    }
+
+    @QueryMapping
+    public CompletableFuture<UserNode> user(@Argument Long id, DataLoader<Long, UserNode> users) {
+        return users.load(id);
+    }
+
+    // ----- Tournament -----
+
+    @BatchMapping(typeName = "Tournament", field = "teams")
+    public List<List<TeamNode>> tournamentTeams(List<TournamentNode> torneos) {
+        Map<Long, List<TeamNode>> porTorneo = agrupar(
+                inscriptionRepository.findTeamNodesByTournamentIdIn(ids(torneos, TournamentNode::getId)), TeamNode::getOwnerId);
+        return torneos.stream().map(t -> porTorneo.getOrDefault(t.getId(), List.of())).toList();
+    }
+
+    @BatchMapping(typeName = "Tournament", field = "matches")
+    public List<List<MatchNode>> tournamentMatches(List<TournamentNode> torneos) {
+        Map<Long, List<MatchNode>> porTorneo = agrupar(
+                matchRepository.findNodesByTournamentIdIn(ids(torneos, TournamentNode::getId)), MatchNode::getTournamentId);
+        return torneos.stream().map(t -> porTorneo.getOrDefault(t.getId(), List.of())).toList();
+    }
+
+    @BatchMapping(typeName = "Tournament", field = "results")
+    public List<List<ResultSummary>> tournamentResults(List<TournamentNode> torneos) {
+        Map<Long, List<ResultSummary>> porTorneo = agrupar(
+                resultRepository.findSummariesByTournamentIdIn(ids(torneos, TournamentNode::getId)), ResultSummary::getTournamentId);
+        return torneos.stream().map(t -> porTorneo.getOrDefault(t.getId(), List.of())).toList();
+    }
+
+    // ----- Team -----
+
+    @SchemaMapping(typeName = "Team", field = "captain")
+    public CompletableFuture<UserNode> teamCaptain(TeamNode team, DataLoader<Long, UserNode> users) {
+        return team.getCaptainId() == null ? CompletableFuture.completedFuture(null) : users.load(team.getCaptainId());
+    }
+
+    @BatchMapping(typeName = "Team", field = "players")
+    public List<List<RosterEntryNode>> teamPlayers(List<TeamNode> equipos) {
+        Map<Long, List<RosterEntryNode>> porEquipo = agrupar(
+                teamXPlayerRepository.findRosterNodesByTeamIdIn(ids(equipos, TeamNode::getId)), RosterEntryNode::getTeamId);
+        return equipos.stream().map(e -> porEquipo.getOrDefault(e.getId(), List.of())).toList();
+    }
+
+    @BatchMapping(typeName = "Team", field = "tournaments")
+    public List<List<TournamentNode>> teamTournaments(List<TeamNode> equipos) {
+        Map<Long, List<TournamentNode>> porEquipo = agrupar(
+                inscriptionRepository.findTournamentNodesByTeamIdIn(ids(equipos, TeamNode::getId)), TournamentNode::getOwnerId);
+        return equipos.stream().map(e -> porEquipo.getOrDefault(e.getId(), List.of())).toList();
+    }
+
+    // ----- Player -----
+
+    @SchemaMapping(typeName = "Player", field = "user")
+    public CompletableFuture<UserNode> playerUser(RosterEntryNode player, DataLoader<Long, UserNode> users) {
+        return users.load(player.getUserId());
+    }
+
+    @SchemaMapping(typeName = "Player", field = "team")
+    public CompletableFuture<TeamNode> playerTeam(RosterEntryNode player, DataLoader<Long, TeamNode> teams) {
+        return teams.load(player.getTeamId());
+    }
+
+    // ----- User -----
+
+    @BatchMapping(typeName = "User", field = "teams")
+    public List<List<TeamNode>> userTeams(List<UserNode> usuarios) {
+        Map<Long, List<TeamNode>> porUsuario = agrupar(
+                teamXPlayerRepository.findTeamNodesByUserIdIn(ids(usuarios, UserNode::getId)), TeamNode::getOwnerId);
+        return usuarios.stream().map(u -> porUsuario.getOrDefault(u.getId(), List.of())).toList();
+    }
+
+    // ----- Match -----
+
+    @SchemaMapping(typeName = "Match", field = "tournament")
+    public CompletableFuture<TournamentNode> matchTournament(MatchNode match, DataLoader<Long, TournamentNode> tournaments) {
+        return tournaments.load(match.getTournamentId());
+    }
+
+    @SchemaMapping(typeName = "Match", field = "firstTeam")
+    public CompletableFuture<TeamNode> matchFirstTeam(MatchNode match, DataLoader<Long, TeamNode> teams) {
+        return teams.load(match.getFirstTeamId());
+    }
+
+    @SchemaMapping(typeName = "Match", field = "secondTeam")
+    public CompletableFuture<TeamNode> matchSecondTeam(MatchNode match, DataLoader<Long, TeamNode> teams) {
+        return teams.load(match.getSecondTeamId());
+    }
+
+    // ----- Result -----
+
+    @SchemaMapping(typeName = "Result", field = "tournament")
+    public CompletableFuture<TournamentNode> resultTournament(ResultSummary result, DataLoader<Long, TournamentNode> tournaments) {
+        return tournaments.load(result.getTournamentId());
+    }
+
+    @SchemaMapping(typeName = "Result", field = "winnerTeam")
+    public CompletableFuture<TeamNode> resultWinnerTeam(ResultSummary result, DataLoader<Long, TeamNode> teams) {
+        return teams.load(result.getWinnerTeamId());
+    }
+
+    @SchemaMapping(typeName = "Result", field = "loserTeam")
+    public CompletableFuture<TeamNode> resultLoserTeam(ResultSummary result, DataLoader<Long, TeamNode> teams) {
+        return teams.load(result.getLoserTeamId());
+    }
+
+    private static <T> List<Long> ids(Collection<T> nodos, Function<T, Long> id) {
+        return nodos.stream().map(id).distinct().toList();
+    }
+
+    private static <T> Map<Long, T> porId(Collection<T> nodos, Function<T, Long> id) {
+        return nodos.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a));
+    }
+
+    private static <T> Map<Long, List<T>> agrupar(Collection<T> nodos, Function<T, Long> clave) {
+        return nodos.stream().collect(Collectors.groupingBy(clave));
+    }
+}
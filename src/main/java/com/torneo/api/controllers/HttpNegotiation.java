@@ -0,0 +1,95 @@
+package com.torneo.api.controllers;
+
+import java.util.Locale;
+
+/**
+ * Lectura de las cabeceras de negociación que comparten los controladores.
+ *
+ * ✔ Accept-Encoding con sus valores q: "gzip;q=0" rechaza gzip, y sin gzip en la lista
+ *   decide el comodín "*". Un q mal escrito invalida solo esa entrada.
+ * ✔ If-None-Match como lista de ETags: "*" coincide con cualquiera, el prefijo W/ se ignora
+ *   (comparación débil) y cada ETag se compara completo, nunca como subcadena.
+ */
+final class HttpNegotiation {
+
+    private HttpNegotiation() {
+    }
+
+    static boolean aceptaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double comodin = null;
+        for (String entrada : acceptEncoding.split(",")) {
+            String[] partes = entrada.split(";");
+            String codificacion = partes[0].trim().toLowerCase(Locale.ROOT);
+            Double q = calidad(partes);
+            if (q == null) {
+                continue;
+            }
+            if (codificacion.equals("gzip") || codificacion.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (codificacion.equals("*")) {
+                comodin = q;
+            }
+        }
+        Double elegido = gzip != null ? gzip : comodin;
+        return elegido != null && elegido > 0;
+    }
+
+    /**
+     * Indica si If-None-Match coincide con alguno de los ETags vigentes. Una lista mal formada
+     * no coincide con nada: se responde el cuerpo completo en vez de un 304 dudoso.
+     */
+    static boolean coincideEtag(String ifNoneMatch, String... etags) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String valor = ifNoneMatch.trim();
+        if (valor.equals("*")) {
+            return true;
+        }
+        int i = 0;
+        while (i < valor.length()) {
+            char c = valor.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (valor.startsWith("W/", i)) {
+                i += 2;
+            }
+            if (i >= valor.length() || valor.charAt(i) != '"') {
+                return false;
+            }
+            int cierre = valor.indexOf('"', i + 1);
+            if (cierre < 0) {
+                return false;
+            }
+            String etag = valor.substring(i, cierre + 1);
+            for (String vigente : etags) {
+                if (etag.equals(vigente)) {
+                    return true;
+                }
+            }
+            i = cierre + 1;
+        }
+        return false;
+    }
+
+    private static Double calidad(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double q = Double.parseDouble(parametro.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : null;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.torneo.api.controllers;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.InscriptionRequestDTO;
 import com.torneo.api.dto.InscriptionResponseDTO;
 import com.torneo.api.services.InscriptionService;
@@ -51,9 +52,11 @@ public class InscriptionController {
     }
 
     /**
-     * Endpoint para obtener todas las inscripciones.
+     * Endpoint para obtener las inscripciones, paginadas por cursor.
      *
-     * @return ResponseEntity con la lista de todas las inscripciones
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera)
+     * @param size tamaño de página (máximo 100)
+     * @return ResponseEntity con la página de inscripciones
      */
     @Operation(summary = "Obtener todas las inscripciones",
             description = "Este endpoint permite obtener la lista de todas las inscripciones registradas.")
@@ -63,8 +66,10 @@ public class InscriptionController {
     })
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<InscriptionResponseDTO>> getAll() {
-        return ResponseEntity.ok(inscriptionService.getAll());
+    public ResponseEntity<CursorPageDTO<InscriptionResponseDTO>> getAll(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(inscriptionService.getAll(cursor, size));
     }
 
     /**
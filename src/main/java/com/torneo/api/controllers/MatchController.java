@@ -1,10 +1,17 @@
 package com.torneo.api.controllers;
 
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.MatchEventAckDTO;
+import com.torneo.api.dto.MatchEventBatchDTO;
 import com.torneo.api.dto.MatchRequestDTO;
 import com.torneo.api.dto.MatchResponseDTO;
+import com.torneo.api.services.MatchEventIngestService;
 import com.torneo.api.services.MatchService;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -21,6 +28,7 @@ import java.util.List;
  *
  * ✔ Permite crear, editar, eliminar y consultar partidos.
  * ✔ Filtra partidos por torneo.
+ * ✔ Recibe los eventos en vivo de cada partido (ver MatchEventIngestService).
  * ✔ Utiliza DTOs para evitar exponer entidades directamente.
  * ✔ Protegido con roles si se desea agregar seguridad más adelante.
  */
@@ -31,11 +39,14 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final MatchEventIngestService matchEventIngestService;
 
     /**
-     * Endpoint para obtener todos los partidos.
+     * Endpoint para obtener los partidos, paginados por cursor.
      *
-     * @return ResponseEntity con la lista de todos los partidos
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera)
+     * @param size tamaño de página (máximo 100)
+     * @return ResponseEntity con la página de partidos
      */
     @Operation(summary = "Obtener todos los partidos",
             description = "Este endpoint permite obtener la lista de todos los partidos registrados en el sistema.")
@@ -44,8 +55,10 @@ public class MatchController {
             @ApiResponse(responseCode = "500", description = "Error interno en el servidor")
     })
     @GetMapping
-    public ResponseEntity<List<MatchResponseDTO>> getAllMatches() {
-        return ResponseEntity.ok(matchService.getAllMatches());
+    public ResponseEntity<CursorPageDTO<MatchResponseDTO>> getAllMatches(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(matchService.getAllMatches(cursor, size));
     }
 
     /**
@@ -114,7 +127,8 @@ public class MatchController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Partido actualizado con éxito"),
             @ApiResponse(responseCode = "404", description = "Partido no encontrado"),
-            @ApiResponse(responseCode = "400", description = "Datos del partido inválidos")
+            @ApiResponse(responseCode = "400", description = "Datos del partido inválidos"),
+            @ApiResponse(responseCode = "409", description = "El marcador cambió por eventos en vivo mientras se actualizaba; releer y reintentar")
     })
     @PutMapping("/{id}")
     public ResponseEntity<MatchResponseDTO> updateMatch(
@@ -141,4 +155,33 @@ public class MatchController {
         matchService.deleteMatch(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Endpoint para los servidores de juego: recibe un lote de eventos en vivo del partido.
+     * Los eventos se guardan y suman al marcador en segundo plano, en el orden del lote.
+     * El 202 solo confirma que el lote quedó en memoria: si el servidor se cae antes de guardarlo,
+     * el lote se pierde.
+     *
+     * @param id ID del partido
+     * @param dto el lote de eventos
+     * @return ResponseEntity con código 202 y cuántos eventos del partido faltan guardar
+     */
+    @Operation(summary = "Registrar eventos en vivo del partido",
+            description = "Encola un lote de eventos (bajas, rondas, objetivos) que suman al marcador del partido. "
+                    + "El 202 significa que el lote quedó en memoria, no que se guardó: si el servidor se cae "
+                    + "antes del próximo guardado (cada 100 ms por defecto), el lote se pierde. "
+                    + "Con 429 hay que reintentar el mismo lote después de Retry-After.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Lote aceptado en memoria, todavía sin guardar"),
+            @ApiResponse(responseCode = "400", description = "Eventos inválidos"),
+            @ApiResponse(responseCode = "404", description = "Partido no encontrado"),
+            @ApiResponse(responseCode = "429", description = "Hay demasiados eventos del partido sin guardar")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER')")
+    @PostMapping("/{id}/events")
+    public ResponseEntity<MatchEventAckDTO> ingestEvents(
+            @PathVariable @Parameter(description = "ID del partido") Long id,
+            @RequestBody @Valid @Parameter(description = "Lote de eventos en vivo") MatchEventBatchDTO dto) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(matchEventIngestService.ingest(id, dto.getEvents()));
+    }
 }
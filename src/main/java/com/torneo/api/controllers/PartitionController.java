@@ -0,0 +1,91 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.dto.PartitionStatsDTO;
+import com.torneo.api.enums.PartitionedTable;
+import com.torneo.api.services.TournamentPartitionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST para administrar el particionado por torneo de partidos, resultados e inscripciones.
+ * Solo accesible por usuarios con rol 'ADMIN'.
+ */
+@RestController
+@RequestMapping("/api/partitions")
+@RequiredArgsConstructor
+public class PartitionController {
+
+    private final TournamentPartitionService partitionService;
+
+    /**
+     * Endpoint para obtener filas y tamaño de cada partición, y el total y la latencia de cada tabla.
+     *
+     * @return ResponseEntity con las estadísticas por tabla y partición
+     */
+    @Operation(summary = "Estadísticas de particiones",
+            description = "Este endpoint devuelve filas y bytes de cada partición de matches, results, inscriptions y match_events, y por tabla el total y la latencia de los listados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<List<PartitionStatsDTO>> getStats() {
+        return ResponseEntity.ok(partitionService.stats());
+    }
+
+    /**
+     * Endpoint para saber en qué partición de cada tabla están los datos de un torneo.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con la partición por tabla (null si la tabla no está particionada)
+     */
+    @Operation(summary = "Partición de un torneo",
+            description = "Este endpoint indica en qué partición de cada tabla se guardan los datos del torneo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Particiones obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/tournaments/{id}")
+    public ResponseEntity<Map<String, String>> getTournamentPartition(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        Map<String, String> particiones = new LinkedHashMap<>();
+        for (PartitionedTable table : PartitionedTable.values()) {
+            particiones.put(table.getTableName(), partitionService.partitionOf(table, id));
+        }
+        return ResponseEntity.ok(particiones);
+    }
+
+    /**
+     * Endpoint para cambiar la cantidad de particiones de las tres tablas.
+     *
+     * @param partitions cantidad de particiones deseada
+     * @return ResponseEntity con las estadísticas después del cambio
+     */
+    @Operation(summary = "Rebalancear particiones",
+            description = "Este endpoint agrega o junta particiones hasta llegar a la cantidad pedida. "
+                    + "Bloquea escrituras sobre cada tabla mientras reorganiza: usar en una ventana de mantenimiento.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Particiones reorganizadas"),
+            @ApiResponse(responseCode = "400", description = "Cantidad inválida o base sin particionado"),
+            @ApiResponse(responseCode = "409", description = "Ya hay un rebalanceo en curso"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebalance")
+    public ResponseEntity<List<PartitionStatsDTO>> rebalance(
+            @RequestParam @Parameter(description = "Cantidad de particiones (1 a 1024)") int partitions) {
+        return ResponseEntity.ok(partitionService.rebalance(partitions));
+    }
+}
@@ -1,5 +1,6 @@
 package com.torneo.api.controllers;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.ResultCreateDTO;
 import com.torneo.api.dto.ResultDTO;
 import com.torneo.api.services.ResultService;
@@ -34,8 +35,11 @@ public class ResultController {
 
     /**
      * Endpoint para crear un nuevo resultado.
+     * Con la cabecera `Idempotency-Key`, reintentar la misma carga devuelve el resultado original.
+     * La clave es del usuario que la envía; reusarla con otros datos responde 422.
      *
      * @param dto los datos del resultado a crear
+     * @param idempotencyKey clave elegida por el cliente para reintentar sin duplicar (opcional)
      * @return ResponseEntity con el resultado creado
      */
     @Operation(summary = "Crear nuevo resultado",
@@ -48,14 +52,18 @@ public class ResultController {
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     public ResponseEntity<ResultDTO> createResult(
-            @RequestBody @Parameter(description = "Datos para crear un nuevo resultado") ResultCreateDTO dto) {
-        return ResponseEntity.ok(resultService.createResult(dto));
+            @RequestBody @Parameter(description = "Datos para crear un nuevo resultado") ResultCreateDTO dto,
+            @RequestHeader(value = "Idempotency-Key", required = false)
+            @Parameter(description = "Clave para reintentar la carga sin duplicarla") String idempotencyKey) {
+        return ResponseEntity.ok(resultService.createResult(dto, idempotencyKey));
     }
 
     /**
-     * Endpoint para obtener todos los resultados.
+     * Endpoint para obtener los resultados, paginados por cursor.
      *
-     * @return ResponseEntity con la lista de todos los resultados
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera)
+     * @param size tamaño de página (máximo 100)
+     * @return ResponseEntity con la página de resultados
      */
     @Operation(summary = "Obtener todos los resultados",
             description = "Este endpoint permite obtener la lista de todos los resultados registrados en el sistema.")
@@ -64,8 +72,10 @@ public class ResultController {
             @ApiResponse(responseCode = "500", description = "Error interno en el servidor")
     })
     @GetMapping
-    public ResponseEntity<List<ResultDTO>> getAllResults() {
-        return ResponseEntity.ok(resultService.getAll());
+    public ResponseEntity<CursorPageDTO<ResultDTO>> getAllResults(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(resultService.getAll(cursor, size));
     }
 
     /**
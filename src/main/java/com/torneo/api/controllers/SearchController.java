@@ -0,0 +1,68 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.dto.NameSuggestionDTO;
+import com.torneo.api.services.NameSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para autocompletar nombres de equipos y usuarios.
+ * Pensado para armar planteles sin bajar la lista completa de usuarios al navegador.
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final NameSearchService nameSearchService;
+
+    /**
+     * Endpoint para buscar equipos por el comienzo del nombre, tolerando errores de tipeo.
+     *
+     * @param q texto escrito por el usuario
+     * @param limit cantidad máxima de sugerencias
+     * @return ResponseEntity con las sugerencias ordenadas
+     */
+    @Operation(summary = "Autocompletar equipos",
+            description = "Este endpoint devuelve los equipos cuyo nombre empieza con el texto; si faltan, completa con nombres parecidos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/teams")
+    public ResponseEntity<List<NameSuggestionDTO>> searchTeams(
+            @RequestParam @Parameter(description = "Texto a buscar") String q,
+            @RequestParam(required = false) @Parameter(description = "Cantidad de sugerencias (máximo 50)") Integer limit) {
+        return ResponseEntity.ok(nameSearchService.suggestTeams(q, limit));
+    }
+
+    /**
+     * Endpoint para buscar usuarios por el comienzo del username, tolerando errores de tipeo.
+     *
+     * @param q texto escrito por el usuario
+     * @param limit cantidad máxima de sugerencias
+     * @return ResponseEntity con las sugerencias ordenadas (sin email)
+     */
+    @Operation(summary = "Autocompletar usuarios",
+            description = "Este endpoint devuelve los usuarios cuyo username empieza con el texto; si faltan, completa con nombres parecidos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas con éxito"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/users")
+    public ResponseEntity<List<NameSuggestionDTO>> searchUsers(
+            @RequestParam @Parameter(description = "Texto a buscar") String q,
+            @RequestParam(required = false) @Parameter(description = "Cantidad de sugerencias (máximo 50)") Integer limit) {
+        return ResponseEntity.ok(nameSearchService.suggestUsers(q, limit));
+    }
+}
@@ -1,5 +1,6 @@
 package com.torneo.api.controllers;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.TeamRequestDTO;
 import com.torneo.api.dto.TeamResponseDTO;
 import com.torneo.api.services.TeamService;
@@ -33,9 +34,11 @@ public class TeamController {
     private final TeamXPlayerService teamXPlayerService;
 
     /**
-     * Endpoint para obtener todos los equipos.
+     * Endpoint para obtener los equipos, paginados por cursor.
      *
-     * @return ResponseEntity con la lista de todos los equipos
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera)
+     * @param size tamaño de página (máximo 100)
+     * @return ResponseEntity con la página de equipos
      */
     @Operation(summary = "Obtener todos los equipos",
             description = "Este endpoint permite obtener la lista de todos los equipos registrados en el sistema.")
@@ -45,8 +48,10 @@ public class TeamController {
     })
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<List<TeamResponseDTO>> getAllTeams() {
-        return ResponseEntity.ok(teamService.listTeams());
+    public ResponseEntity<CursorPageDTO<TeamResponseDTO>> getAllTeams(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(teamService.listTeams(cursor, size));
     }
 
     /**
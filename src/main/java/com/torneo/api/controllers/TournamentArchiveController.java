@@ -0,0 +1,112 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.services.TournamentArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Controlador REST para el archivo de torneos finalizados.
+ * El documento no cambia nunca, por eso se puede cachear en el cliente.
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+@RequiredArgsConstructor
+public class TournamentArchiveController {
+
+    private final TournamentArchiveService archiveService;
+
+    /**
+     * Endpoint para obtener el documento completo de un torneo finalizado.
+     * Si el cliente acepta gzip (con q mayor a 0) se envía tal como está guardado, sin descomprimir.
+     *
+     * @param id ID del torneo
+     * @param acceptEncoding cabecera Accept-Encoding del cliente
+     * @return ResponseEntity con el documento JSON del torneo
+     */
+    @Operation(summary = "Archivo del torneo",
+            description = "Este endpoint devuelve la llave, posiciones, planteles y resultados de un torneo finalizado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo obtenido con éxito"),
+            @ApiResponse(responseCode = "404", description = "El torneo no está archivado")
+    })
+    @GetMapping("/{id}/archive")
+    public ResponseEntity<byte[]> getArchive(
+            @PathVariable @Parameter(description = "ID del torneo") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        byte[] documento = archiveService.findCompressed(id)
+                .orElseThrow(() -> new NotFoundException("El torneo no está archivado"));
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (HttpNegotiation.aceptaGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(documento);
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(documento))) {
+            return builder.body(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Endpoint para archivar un torneo que ya estaba finalizado.
+     * Solo accesible por usuarios con rol 'ADMIN'.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity vacío con código 204
+     */
+    @Operation(summary = "Archivar torneo",
+            description = "Este endpoint genera el archivo de un torneo finalizado antes de que existiera el archivo automático.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Torneo archivado"),
+            @ApiResponse(responseCode = "409", description = "El torneo no está finalizado"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/archive")
+    public ResponseEntity<Void> archive(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        archiveService.archive(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint para borrar de las tablas de uso diario las filas de un torneo ya archivado.
+     * Solo accesible por usuarios con rol 'ADMIN'.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con la cantidad de filas borradas
+     */
+    @Operation(summary = "Depurar torneo archivado",
+            description = "Este endpoint borra resultados, partidos e inscripciones de un torneo que ya tiene archivo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Filas borradas"),
+            @ApiResponse(responseCode = "409", description = "El torneo no está archivado"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/archive/prune")
+    public ResponseEntity<Map<String, Integer>> prune(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        return ResponseEntity.ok(Map.of("deletedRows", archiveService.pruneHotRows(id)));
+    }
+}
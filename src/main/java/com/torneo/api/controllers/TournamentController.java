@@ -1,16 +1,31 @@
 package com.torneo.api.controllers;
 
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.TournamentDetailDTO;
 import com.torneo.api.dto.TournamentRequestDTO;
 import com.torneo.api.dto.TournamentResponseDTO;
+import com.torneo.api.dto.TournamentSearchDTO;
 import com.torneo.api.enums.GamesCategory;
 import com.torneo.api.enums.GamesState;
+import com.torneo.api.enums.WireFormat;
+import com.torneo.api.services.TournamentCatalogCache;
+import com.torneo.api.services.TournamentDetailService;
+import com.torneo.api.services.TournamentSearchIndex;
 import com.torneo.api.services.TournamentService;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +35,8 @@ import org.springframework.web.bind.annotation.*;
  * Controlador REST para la gestión de torneos.
  * Permite crear, consultar, filtrar, actualizar y eliminar torneos.
  * Solo ADMIN puede modificar o crear torneos.
+ * Los listados se paginan por cursor y se sirven desde el catálogo en memoria con ETag (304), variante gzip
+ * y variantes CBOR o Smile según el header Accept.
  */
 
 @RestController
@@ -28,6 +45,7 @@ import org.springframework.web.bind.annotation.*;
 public class TournamentController {
 
     private final TournamentService tournamentService;
+    private final TournamentDetailService tournamentDetailService;
 
     /**
      * Endpoint para crear un torneo.
@@ -51,19 +69,26 @@ public class TournamentController {
     }
 
     /**
-     * Endpoint para obtener todos los torneos.
+     * Endpoint para obtener todos los torneos, paginados por cursor.
      *
-     * @return ResponseEntity con la lista de todos los torneos
+     * @return ResponseEntity con la página de torneos
      */
     @Operation(summary = "Obtener todos los torneos",
             description = "Este endpoint permite obtener la lista de todos los torneos registrados en el sistema.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito"),
+            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito",
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde el ETag enviado"),
             @ApiResponse(responseCode = "500", description = "Error interno en el servidor")
     })
     @GetMapping
-    public ResponseEntity<List<TournamentResponseDTO>> getAllTournaments() {
-        return ResponseEntity.ok(tournamentService.getAllTournaments());
+    public ResponseEntity<byte[]> getAllTournaments(
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return catalogResponse(tournamentService.getCatalog(null, null, cursor, size), ifNoneMatch, acceptEncoding, accept);
     }
 
     /**
@@ -84,6 +109,53 @@ public class TournamentController {
         return ResponseEntity.ok(tournamentService.getTournamentById(id));
     }
 
+    /**
+     * Endpoint para obtener el detalle completo de un torneo en una sola llamada.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con el torneo, equipos con planteles, partidos y resultados
+     */
+    @Operation(summary = "Obtener detalle del torneo",
+            description = "Este endpoint devuelve el torneo junto con sus equipos inscriptos (con planteles), partidos y resultados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Detalle obtenido con éxito"),
+            @ApiResponse(responseCode = "404", description = "Torneo no encontrado")
+    })
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<TournamentDetailDTO> getTournamentDetail(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        return ResponseEntity.ok(tournamentDetailService.getDetail(id));
+    }
+
+    /**
+     * Endpoint para buscar torneos combinando texto, categorías, estados y fechas.
+     * Devuelve también cuántos torneos hay por cada valor de faceta.
+     *
+     * @return ResponseEntity con la página de resultados y los conteos por faceta
+     */
+    @Operation(summary = "Buscar torneos",
+            description = "Este endpoint busca torneos por palabras del juego o del nombre, categorías, estados y rango de fecha de inicio. "
+                    + "Los valores de una misma faceta se combinan con OR y las facetas entre sí con AND.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Búsqueda realizada con éxito"),
+            @ApiResponse(responseCode = "400", description = "Filtros u orden inválidos")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<TournamentSearchDTO> searchTournaments(
+            @RequestParam(required = false) @Parameter(description = "Texto a buscar en el juego o el nombre") String q,
+            @RequestParam(required = false) @Parameter(description = "Categorías aceptadas") List<GamesCategory> category,
+            @RequestParam(required = false) @Parameter(description = "Estados aceptados") List<GamesState> state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio mínima (yyyy-MM-dd)") LocalDate startFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Fecha de inicio máxima (yyyy-MM-dd)") LocalDate startTo,
+            @RequestParam(required = false) @Parameter(description = "Orden: id, name o startDate; con '-' es descendente") String sort,
+            @RequestParam(defaultValue = "0") @Parameter(description = "Número de página, desde 0") int page,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(tournamentService.search(
+                new TournamentSearchIndex.Query(q, category, state, startFrom, startTo, sort, page, size)));
+    }
+
     /**
      * Endpoint para obtener torneos por su estado.
      *
@@ -93,13 +165,20 @@ public class TournamentController {
     @Operation(summary = "Obtener torneos por estado",
             description = "Este endpoint permite obtener los torneos filtrados por su estado (por ejemplo, 'EN_CURSO', 'FINALIZADO').")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito"),
+            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito",
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde el ETag enviado"),
             @ApiResponse(responseCode = "400", description = "Estado inválido")
     })
     @GetMapping("/state")
-    public ResponseEntity<List<TournamentResponseDTO>> getTournamentsByState(
-            @RequestParam @Parameter(description = "Estado de los torneos") GamesState state) {
-        return ResponseEntity.ok(tournamentService.getByState(state));
+    public ResponseEntity<byte[]> getTournamentsByState(
+            @RequestParam @Parameter(description = "Estado de los torneos") GamesState state,
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return catalogResponse(tournamentService.getCatalog(state, null, cursor, size), ifNoneMatch, acceptEncoding, accept);
     }
 
     /**
@@ -111,13 +190,20 @@ public class TournamentController {
     @Operation(summary = "Obtener torneos por categoría",
             description = "Este endpoint permite obtener los torneos filtrados por su categoría (por ejemplo, 'DEPORTIVO', 'AMISTOSO').")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito"),
+            @ApiResponse(responseCode = "200", description = "Lista de torneos obtenida con éxito",
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde el ETag enviado"),
             @ApiResponse(responseCode = "400", description = "Categoría inválida")
     })
     @GetMapping("/category")
-    public ResponseEntity<List<TournamentResponseDTO>> getTournamentsByCategory(
-            @RequestParam @Parameter(description = "Categoría de los torneos") GamesCategory category) {
-        return ResponseEntity.ok(tournamentService.getByCategory(category));
+    public ResponseEntity<byte[]> getTournamentsByCategory(
+            @RequestParam @Parameter(description = "Categoría de los torneos") GamesCategory category,
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return catalogResponse(tournamentService.getCatalog(null, category, cursor, size), ifNoneMatch, acceptEncoding, accept);
     }
 
     /**
@@ -164,5 +250,57 @@ public class TournamentController {
         tournamentService.deleteTournament(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * Arma la respuesta del catálogo a partir de los bytes ya serializados.
+     * Si el cliente manda un ETag vigente (o "*") responde 304 sin cuerpo; si acepta gzip
+     * con q mayor a 0 devuelve la variante precomprimida. Con Accept application/cbor o
+     * application/x-jackson-smile devuelve esa codificación (sin gzip: ya es compacta).
+     */
+    private ResponseEntity<byte[]> catalogResponse(TournamentCatalogCache.CatalogEntry entry, String ifNoneMatch,
+                                                   String acceptEncoding, String accept) {
+        WireFormat formato = WireFormat.fromAccept(accept);
+        if (formato != WireFormat.JSON) {
+            return binaryCatalogResponse(entry, formato, ifNoneMatch);
+        }
+
+        boolean gzip = HttpNegotiation.aceptaGzip(acceptEncoding);
+        String etag = gzip ? entry.gzipEtag() : entry.etag();
+
+        if (HttpNegotiation.coincideEtag(ifNoneMatch, entry.etag(), entry.gzipEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.json());
+    }
+
+    private ResponseEntity<byte[]> binaryCatalogResponse(TournamentCatalogCache.CatalogEntry entry, WireFormat formato,
+                                                         String ifNoneMatch) {
+        String etag = entry.etag(formato);
+        if (HttpNegotiation.coincideEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getMediaType()))
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(entry.body(formato));
+    }
+}
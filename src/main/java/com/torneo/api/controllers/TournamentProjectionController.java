@@ -0,0 +1,161 @@
+package com.torneo.api.controllers;
+
+import com.torneo.api.dto.BracketMatchDTO;
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.StandingDTO;
+import com.torneo.api.dto.TournamentArchiveDTO;
+import com.torneo.api.dto.TournamentChangesDTO;
+import com.torneo.api.dto.TournamentEventDTO;
+import com.torneo.api.dto.TournamentPredictionDTO;
+import com.torneo.api.services.TournamentArchiveService;
+import com.torneo.api.services.TournamentChangesService;
+import com.torneo.api.services.TournamentEventService;
+import com.torneo.api.services.TournamentPredictionService;
+import com.torneo.api.services.TournamentProjectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para las vistas de un torneo que salen de su historial de eventos:
+ * posiciones, llaves (incluidos los partidos ya jugados), historial, feed de cambios y predicciones.
+ * Para torneos finalizados, posiciones y llaves salen del archivo del torneo.
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+@RequiredArgsConstructor
+public class TournamentProjectionController {
+
+    private final TournamentProjectionService projectionService;
+    private final TournamentEventService eventService;
+    private final TournamentArchiveService archiveService;
+    private final TournamentChangesService changesService;
+    private final TournamentPredictionService predictionService;
+
+    /**
+     * Endpoint para obtener la tabla de posiciones de un torneo.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con las posiciones ordenadas por victorias y diferencia de puntos
+     */
+    @Operation(summary = "Posiciones del torneo",
+            description = "Este endpoint devuelve la tabla de posiciones calculada a partir de los resultados registrados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posiciones obtenidas con éxito")
+    })
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<StandingDTO>> getStandings(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        return ResponseEntity.ok(archiveService.find(id)
+                .map(TournamentArchiveDTO::getStandings)
+                .orElseGet(() -> projectionService.getStandings(id)));
+    }
+
+    /**
+     * Endpoint para obtener la llave de un torneo.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con los partidos ordenados por ronda
+     */
+    @Operation(summary = "Llave del torneo",
+            description = "Este endpoint devuelve todos los partidos del torneo por ronda, incluidos los ya jugados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Llave obtenida con éxito")
+    })
+    @GetMapping("/{id}/bracket")
+    public ResponseEntity<List<BracketMatchDTO>> getBracket(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        return ResponseEntity.ok(archiveService.find(id)
+                .map(TournamentArchiveDTO::getBracket)
+                .orElseGet(() -> projectionService.getBracket(id)));
+    }
+
+    /**
+     * Endpoint para obtener el historial de eventos de un torneo, paginado por cursor.
+     *
+     * @param id ID del torneo
+     * @param cursor cursor devuelto por la página anterior (vacío para la primera)
+     * @param size tamaño de página (máximo 100)
+     * @return ResponseEntity con la página de eventos en orden de seq
+     */
+    @Operation(summary = "Historial del torneo",
+            description = "Este endpoint devuelve los eventos del torneo (inscripciones, partidos, resultados y cambios de estado) en orden.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Historial obtenido con éxito")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CursorPageDTO<TournamentEventDTO>> getHistory(
+            @PathVariable @Parameter(description = "ID del torneo") Long id,
+            @RequestParam(required = false) @Parameter(description = "Cursor devuelto por la página anterior") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Tamaño de página (máximo 100)") Integer size) {
+        return ResponseEntity.ok(eventService.history(id, cursor, size));
+    }
+
+    /**
+     * Endpoint para obtener la probabilidad de cada equipo de ganar cada ronda y el torneo.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity con las probabilidades, ordenadas de mayor a menor chance de salir campeón
+     */
+    @Operation(summary = "Predicciones del torneo",
+            description = "Este endpoint simula la llave restante un millón de veces según el historial de resultados de cada equipo "
+                    + "y devuelve la probabilidad de ganar cada ronda. Se recalcula cuando cambia el torneo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Predicciones obtenidas con éxito"),
+            @ApiResponse(responseCode = "404", description = "Torneo no encontrado")
+    })
+    @GetMapping("/{id}/predictions")
+    public ResponseEntity<TournamentPredictionDTO> getPredictions(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        return ResponseEntity.ok(predictionService.predict(id));
+    }
+
+    /**
+     * Endpoint para sincronizar un torneo por diferencia: devuelve solo las entidades que
+     * cambiaron desde la versión indicada.
+     *
+     * @param id ID del torneo
+     * @param since última versión que tiene el cliente (0 la primera vez)
+     * @return ResponseEntity con los cambios y la versión a pedir la próxima vez
+     */
+    @Operation(summary = "Cambios del torneo",
+            description = "Este endpoint devuelve inscripciones, partidos, resultados y planteles que cambiaron desde la versión since. "
+                    + "Si la versión es demasiado vieja responde resyncRequired y el cliente debe descargar el torneo completo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cambios obtenidos con éxito")
+    })
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<TournamentChangesDTO> getChanges(
+            @PathVariable @Parameter(description = "ID del torneo") Long id,
+            @RequestParam(defaultValue = "0") @Parameter(description = "Última versión conocida por el cliente") long since) {
+        return ResponseEntity.ok(changesService.changesSince(id, since));
+    }
+
+    /**
+     * Endpoint para recalcular las proyecciones de un torneo desde el primer evento.
+     * Solo accesible por usuarios con rol 'ADMIN'.
+     *
+     * @param id ID del torneo
+     * @return ResponseEntity vacío con código 204
+     */
+    @Operation(summary = "Recalcular proyecciones",
+            description = "Este endpoint descarta el snapshot del torneo y vuelve a reproducir todo su historial.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Proyecciones recalculadas"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autorizado")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/projections/rebuild")
+    public ResponseEntity<Void> rebuild(
+            @PathVariable @Parameter(description = "ID del torneo") Long id) {
+        projectionService.rebuild(id);
+        return ResponseEntity.noContent().build();
+    }
+}
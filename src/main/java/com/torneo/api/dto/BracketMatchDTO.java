@@ -0,0 +1,28 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con un partido de la llave del torneo, incluidos los ya jugados
+ * (que se borran de la tabla matches al cargar el resultado).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BracketMatchDTO {
+
+    private Long matchId;
+    private int round;
+    private Long firstTeamId;
+    private String firstTeamName;
+    private Long secondTeamId;
+    private String secondTeamName;
+    private Integer firstTeamScore;
+    private Integer secondTeamScore;
+    private String status;
+    private Long winnerTeamId;
+}
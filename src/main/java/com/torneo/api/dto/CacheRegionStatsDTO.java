@@ -0,0 +1,22 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con las estadísticas de una región del cache de segundo nivel.
+ * Se usa para verificar que las lecturas de torneos y equipos se resuelven desde memoria.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatsDTO {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long elementsInMemory;
+}
@@ -0,0 +1,82 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * DTO de salida común para todos los listados paginados por cursor (keyset).
+ *
+ * ✔ items: la página pedida, ordenada por ID ascendente.
+ * ✔ nextCursor: cursor opaco para pedir la página siguiente; es null en la última página.
+ * ✔ El tamaño de página se limita a MAX_SIZE, así la memoria por request no depende
+ *   del tamaño de la tabla.
+ *
+ * El cursor codifica el último ID entregado; el cliente no debe interpretarlo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String CURSOR_PREFIX = "v1:";
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+
+    /**
+     * Normaliza el tamaño pedido por el cliente al rango [1, MAX_SIZE].
+     */
+    public static int clampSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Devuelve el último ID entregado según el cursor (0 si se pide la primera página).
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException también es IllegalArgumentException
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    public static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Arma la página a partir de las filas leídas. Las consultas piden size + 1 filas:
+     * si llega la fila extra, hay página siguiente y se descarta.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, ToLongFunction<T> idOf) {
+        boolean hayMas = rows.size() > size;
+        List<T> items = hayMas ? rows.subList(0, size) : rows;
+        String next = hayMas ? encodeCursor(idOf.applyAsLong(items.get(items.size() - 1))) : null;
+        return new CursorPageDTO<>(items, next, items.size());
+    }
+}
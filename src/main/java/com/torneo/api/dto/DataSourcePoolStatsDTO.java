@@ -0,0 +1,33 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con el estado de un pool de conexiones (primaria o réplica).
+ *
+ * ✔ checkouts: conexiones entregadas por el ruteo a este pool.
+ * ✔ stickyReads: lecturas enviadas a la primaria por una escritura reciente del mismo usuario.
+ * ✔ fallbacks: en la primaria, lecturas que fueron ahí porque no había réplica disponible;
+ *   en una réplica, conexiones que fallaron y se resolvieron en la primaria.
+ * ✔ active, idle, total y waiting salen de Hikari.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataSourcePoolStatsDTO {
+    private String pool;
+    private String role;
+    private boolean healthy;
+    private Long lagSeconds;
+    private long checkouts;
+    private long stickyReads;
+    private long fallbacks;
+    private int active;
+    private int idle;
+    private int total;
+    private int waiting;
+}
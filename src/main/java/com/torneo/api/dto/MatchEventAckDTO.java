@@ -0,0 +1,20 @@
+package com.torneo.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO de salida al aceptar un lote de eventos en vivo.
+ *
+ * ✔ accepted: eventos del lote que quedaron en el buffer del partido.
+ * ✔ pending: eventos del partido que todavía no se guardaron (incluye los del lote).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchEventAckDTO {
+
+    private Long matchId;
+    private int accepted;
+    private long pending;
+}
@@ -0,0 +1,24 @@
+package com.torneo.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de entrada con un lote de eventos en vivo de un partido, en el orden en que ocurrieron.
+ * Un lote entra entero al buffer del partido o se rechaza entero.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchEventBatchDTO {
+
+    @NotEmpty(message = "El lote debe tener al menos un evento")
+    @Size(max = 1000, message = "El lote no puede tener más de 1000 eventos")
+    private List<@Valid @NotNull MatchEventRequestDTO> events;
+}
@@ -0,0 +1,40 @@
+package com.torneo.api.dto;
+
+import com.torneo.api.enums.MatchEventType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de entrada con un evento en vivo de un partido.
+ *
+ * ✔ team: 1 o 2 según el equipo del partido, 0 si el evento no es de ninguno.
+ * ✔ points: cuánto suma el evento al marcador de ese equipo (0 si no cambia el marcador).
+ * ✔ occurredAt: momento del evento en el servidor de juego; si no viene se usa la hora de recepción.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchEventRequestDTO {
+
+    @NotNull(message = "El tipo de evento es obligatorio")
+    private MatchEventType type;
+
+    @Min(value = 0, message = "El equipo debe ser 0, 1 o 2")
+    @Max(value = 2, message = "El equipo debe ser 0, 1 o 2")
+    private int team;
+
+    @Min(value = 0, message = "Los puntos no pueden ser negativos")
+    @Max(value = 1000, message = "Un evento no puede sumar más de 1000 puntos")
+    private int points;
+
+    private LocalDateTime occurredAt;
+
+    @Size(max = 200, message = "El detalle no puede superar los 200 caracteres")
+    private String detail;
+}
@@ -0,0 +1,22 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida para las sugerencias de autocompletado de equipos y usuarios.
+ * ✔ Solo expone ID y nombre: el email de los usuarios nunca sale por la búsqueda.
+ * ✔ distance es 0 si el nombre empieza con lo escrito; mayor a 0 si se corrigió un error de tipeo.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NameSuggestionDTO {
+
+    private Long id;
+    private String name;
+    private int distance;
+}
@@ -0,0 +1,29 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con el tamaño y la latencia de una partición de una tabla particionada.
+ *
+ * ✔ rows, dataBytes e indexBytes salen de information_schema (en MySQL son estimaciones).
+ * ✔ La fila con partition null es el total de la tabla (sin particionado es la única).
+ * ✔ queries, avgMicros y maxMicros, solo en la fila de la tabla, miden las consultas de los
+ *   listados desde el arranque o el último rebalanceo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartitionStatsDTO {
+    private String table;
+    private String partition;
+    private long rows;
+    private Long dataBytes;
+    private Long indexBytes;
+    private long queries;
+    private long avgMicros;
+    private long maxMicros;
+}
@@ -0,0 +1,25 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con la posición de un equipo en un torneo, calculada a partir de los resultados.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingDTO {
+
+    private Long teamId;
+    private String teamName;
+    private int played;
+    private int wins;
+    private int losses;
+    private int pointsFor;
+    private int pointsAgainst;
+    private boolean eliminated;
+}
@@ -0,0 +1,28 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Documento completo de un torneo finalizado: se guarda comprimido en tournament_archives
+ * y desde ahí se sirven todas las lecturas del torneo.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentArchiveDTO {
+
+    private TournamentResponseDTO tournament;
+    private Long championTeamId;
+    private List<TournamentDetailDTO.TeamRoster> teams;
+    private List<BracketMatchDTO> bracket;
+    private List<StandingDTO> standings;
+    private List<ResultDTO> results;
+    private LocalDateTime archivedAt;
+}
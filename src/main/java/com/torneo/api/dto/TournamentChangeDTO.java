@@ -0,0 +1,28 @@
+package com.torneo.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de salida con el último estado conocido de una entidad que cambió en un torneo.
+ *
+ * ✔ entity: inscription, match, result, roster o tournament; id es el de esa entidad
+ *   (en inscription y roster, el del equipo y el del jugador respectivamente).
+ * ✔ data: solo los campos que cambiaron desde la versión pedida; si deleted es true no viene.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TournamentChangeDTO {
+
+    private String entity;
+    private Long id;
+    private long seq;
+    private boolean deleted;
+    private TournamentEventPayload data;
+}
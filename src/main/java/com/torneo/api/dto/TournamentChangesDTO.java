@@ -0,0 +1,28 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de salida del feed de cambios de un torneo.
+ *
+ * ✔ version: la versión a mandar como since en la próxima consulta.
+ * ✔ resyncRequired: la versión pedida es demasiado vieja (o desconocida); el cliente tiene que
+ *   volver a descargar el torneo completo y seguir desde version.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentChangesDTO {
+
+    private Long tournamentId;
+    private long since;
+    private long version;
+    private boolean resyncRequired;
+    private List<TournamentChangeDTO> changes;
+}
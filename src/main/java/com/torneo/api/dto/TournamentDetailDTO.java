@@ -0,0 +1,46 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de salida con todo lo necesario para mostrar la página de un torneo en una sola llamada:
+ * el torneo, los equipos inscriptos con sus planteles, los partidos y los resultados.
+ * ✔ `version` cambia cada vez que se modifica algo del torneo.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentDetailDTO {
+
+    private long version;
+    private TournamentResponseDTO tournament;
+    private List<TeamRoster> teams;
+    private List<MatchResponseDTO> matches;
+    private List<ResultDTO> results;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class TeamRoster {
+        private Long id;
+        private String name;
+        private List<RosterPlayer> players;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RosterPlayer {
+        private Long userId;
+        private String username;
+        private boolean captain;
+    }
+}
@@ -0,0 +1,25 @@
+package com.torneo.api.dto;
+
+import com.torneo.api.enums.TournamentEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de salida con un evento del historial de un torneo.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentEventDTO {
+
+    private Long tournamentId;
+    private Long seq;
+    private TournamentEventType type;
+    private LocalDateTime createdAt;
+    private TournamentEventPayload payload;
+}
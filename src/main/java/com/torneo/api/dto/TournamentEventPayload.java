@@ -0,0 +1,45 @@
+package com.torneo.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.torneo.api.enums.GamesState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Datos de un evento de torneo. Cada tipo de evento completa solo los campos que usa;
+ * los nulos no se guardan en el JSON.
+ * ✔ Los nombres de equipo se copian al evento para que el historial no dependa de filas que se borran.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TournamentEventPayload {
+
+    private Long teamId;
+    private String teamName;
+
+    private Long matchId;
+    private Long firstTeamId;
+    private String firstTeamName;
+    private Long secondTeamId;
+    private String secondTeamName;
+    private Integer firstTeamScore;
+    private Integer secondTeamScore;
+    private String status;
+
+    private Long resultId;
+    private Long winnerTeamId;
+    private Long loserTeamId;
+    private Integer scoreWinnerTeam;
+    private Integer scoreLoserTeam;
+
+    private GamesState fromState;
+    private GamesState toState;
+
+    private Long userId;
+    private Boolean captain;
+}
@@ -0,0 +1,42 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de salida con las probabilidades de cada equipo de ganar las rondas que le quedan al torneo.
+ *
+ * ✔ rounds: probabilidad de ganar cada ronda, empezando por la ronda en curso; la última es la
+ *   probabilidad de salir campeón (champion).
+ * ✔ margin: error máximo de las probabilidades con 95% de confianza, según la cantidad de simulaciones.
+ * ✔ version: versión del torneo con la que se calcularon; cambia al cargar un resultado.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentPredictionDTO {
+
+    private Long tournamentId;
+    private long version;
+    private int simulations;
+    private double margin;
+    private long tookMillis;
+    private List<TeamPrediction> teams;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class TeamPrediction {
+        private Long teamId;
+        private String teamName;
+        private double strength;
+        private double champion;
+        private List<Double> rounds;
+    }
+}
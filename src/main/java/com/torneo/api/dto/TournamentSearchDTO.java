@@ -0,0 +1,31 @@
+package com.torneo.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de salida de la búsqueda facetada de torneos.
+ *
+ * ✔ total: cantidad de torneos que cumplen todos los filtros.
+ * ✔ items: la página pedida, en el orden solicitado.
+ * ✔ facets: por cada dimensión (category, state, startMonth), cuántos torneos quedarían
+ *   al elegir cada valor manteniendo los filtros de las otras dimensiones.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentSearchDTO {
+
+    private int total;
+    private int page;
+    private int size;
+    private List<TournamentResponseDTO> items;
+    private Map<String, Map<String, Integer>> facets;
+    private long tookMicros;
+}
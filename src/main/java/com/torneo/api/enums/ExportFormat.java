@@ -0,0 +1,28 @@
+package com.torneo.api.enums;
+
+/**
+ * Enum con los formatos disponibles para las exportaciones masivas.
+ * NDJSON escribe un objeto JSON por línea; CSV escribe una fila por línea con cabecera.
+ */
+public enum ExportFormat
+{
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension)
+    {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -3,6 +3,8 @@ package com.torneo.api.enums;
 /**
  * Enum que indica el estado de un torneo.
  * Se utiliza para saber si un torneo está activo, finalizado o próximo a comenzar.
+ *
+ * Transiciones válidas: INSCRIPTION → ACTIVE (cupo completo) y ACTIVE → FINISHED (hay campeón).
  */
 
 public enum GamesState
@@ -20,6 +22,15 @@ public enum GamesState
         this.setOrden(orden);
     }
 
+    public boolean canTransitionTo(GamesState siguiente)
+    {
+        return switch (this) {
+            case INSCRIPTION -> siguiente == ACTIVE;
+            case ACTIVE -> siguiente == FINISHED;
+            case FINISHED -> false;
+        };
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,12 @@
+package com.torneo.api.enums;
+
+/**
+ * Enum con los tipos de evento en vivo que informan los servidores de juego durante un partido.
+ * Cuánto suma cada uno al marcador lo indica el propio evento (points).
+ */
+public enum MatchEventType {
+    KILL,
+    ROUND_WON,
+    OBJECTIVE,
+    OTHER
+}
@@ -0,0 +1,23 @@
+package com.torneo.api.enums;
+
+/**
+ * Enum con las tablas particionadas por tournament_id (ver migraciones V8 y V9).
+ */
+public enum PartitionedTable
+{
+    MATCHES("matches"),
+    RESULTS("results"),
+    INSCRIPTIONS("inscriptions"),
+    MATCH_EVENTS("match_events");
+
+    private final String tableName;
+
+    PartitionedTable(String tableName)
+    {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
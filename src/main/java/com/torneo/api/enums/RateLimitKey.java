@@ -0,0 +1,11 @@
+package com.torneo.api.enums;
+
+/**
+ * Enum con la forma de identificar a quién se le cobra una petición en el rate limiting.
+ * USER usa el usuario del JWT y, sin autenticación, la IP; IP usa siempre la IP.
+ */
+public enum RateLimitKey
+{
+    USER,
+    IP
+}
@@ -0,0 +1,18 @@
+package com.torneo.api.enums;
+
+/**
+ * Enum con los tipos de evento que se registran en el historial de un torneo.
+ * Los cinco últimos solo alimentan el feed de cambios (/changes): no alteran posiciones ni llaves.
+ */
+public enum TournamentEventType {
+    TEAM_INSCRIBED,
+    MATCH_SCHEDULED,
+    SCORE_UPDATED,
+    RESULT_RECORDED,
+    STATE_CHANGED,
+    INSCRIPTION_DELETED,
+    MATCH_DELETED,
+    RESULT_UPDATED,
+    RESULT_DELETED,
+    ROSTER_CHANGED
+}
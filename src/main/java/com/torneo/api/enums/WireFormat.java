@@ -0,0 +1,64 @@
+package com.torneo.api.enums;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Enum con las codificaciones en las que la API puede responder, elegidas por el header Accept.
+ * CBOR y Smile son binarias: mismo contenido que el JSON, menos bytes y menos CPU al serializar.
+ */
+public enum WireFormat
+{
+    JSON("application/json", "json"),
+    CBOR("application/cbor", "cbor"),
+    SMILE("application/x-jackson-smile", "smile");
+
+    private final String mediaType;
+    private final String suffix;
+
+    WireFormat(String mediaType, String suffix)
+    {
+        this.mediaType = mediaType;
+        this.suffix = suffix;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Elige el formato según el header Accept, respetando los valores q.
+     * Sin header, con comodines o con un Accept que no se puede leer, responde JSON.
+     */
+    public static WireFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> aceptados;
+        try {
+            aceptados = MediaType.parseMediaTypes(accept).stream()
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                    .toList();
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        for (MediaType aceptado : aceptados) {
+            if (aceptado.getQualityValue() == 0) {
+                continue;
+            }
+            for (WireFormat formato : values()) {
+                if (aceptado.isCompatibleWith(MediaType.parseMediaType(formato.mediaType))) {
+                    return formato;
+                }
+            }
+        }
+        return JSON;
+    }
+}
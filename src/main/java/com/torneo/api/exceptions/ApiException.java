@@ -0,0 +1,34 @@
+package com.torneo.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base de las excepciones de dominio que llegan al cliente con un estado HTTP propio.
+ *
+ * ✔ No capturan stack trace: son rechazos esperables (recurso inexistente, cupo completo,
+ *   inscripción repetida) y bajo tráfico abusivo armar la traza domina el costo de la petición.
+ * ✔ GlobalExceptionHandler las convierte en un cuerpo RFC 7807 (ProblemDetail) con el estado
+ *   y el código de cada subclase.
+ */
+public abstract class ApiException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String code;
+
+    protected ApiException(HttpStatus status, String code, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Código estable del tipo de error (por ejemplo "not-found"); forma el campo type del cuerpo.
+     */
+    public String getCode() {
+        return code;
+    }
+}
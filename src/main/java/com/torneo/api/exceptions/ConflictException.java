@@ -0,0 +1,15 @@
+package com.torneo.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción personalizada para conflictos de concurrencia o de estado (409).
+ * Se lanza cuando otra petición ya cambió el recurso, por ejemplo cuando un torneo
+ * no está en el estado esperado para la transición pedida, o cuando el recurso que
+ * se quiere crear ya existe (usuario, inscripción, jugador en el equipo).
+ */
+public class ConflictException extends ApiException {
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, "conflict", message);
+    }
+}
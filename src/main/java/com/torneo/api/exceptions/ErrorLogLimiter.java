@@ -0,0 +1,66 @@
+package com.torneo.api.exceptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limita cuántas veces se escribe en el log un mismo tipo de error.
+ *
+ * ✔ Cada clave (tipo de excepción o estado HTTP) tiene una ventana de un minuto con un máximo de
+ *   entradas; el resto se cuenta y se informa junto con la primera entrada de la ventana siguiente.
+ * ✔ Los errores del cliente (4xx) además se muestrean: solo uno de cada sampleRate llega a intentarlo.
+ */
+final class ErrorLogLimiter {
+
+    private static final long VENTANA_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int maxPorMinuto;
+    private final int sampleRate;
+    private final Map<String, Ventana> ventanas = new ConcurrentHashMap<>();
+
+    ErrorLogLimiter(int maxPorMinuto, int sampleRate) {
+        this.maxPorMinuto = maxPorMinuto;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return -1 si esta entrada no se escribe; si se escribe, cuántas se omitieron antes de ella
+     */
+    long tryLog(String clave) {
+        return ventanas.computeIfAbsent(clave, k -> new Ventana()).tryLog(System.nanoTime());
+    }
+
+    boolean sampled() {
+        return sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private final class Ventana {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long inicio = System.nanoTime();
+        private int escritas;
+        private long omitidas;
+
+        long tryLog(long ahora) {
+            lock.lock();
+            try {
+                if (ahora - inicio >= VENTANA_NANOS) {
+                    inicio = ahora;
+                    escritas = 0;
+                }
+                if (escritas >= maxPorMinuto) {
+                    omitidas++;
+                    return -1;
+                }
+                escritas++;
+                long previas = omitidas;
+                omitidas = 0;
+                return previas;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
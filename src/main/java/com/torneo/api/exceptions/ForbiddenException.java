@@ -0,0 +1,13 @@
+package com.torneo.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción para operaciones que el usuario autenticado no puede hacer sobre un recurso
+ * concreto (403), por ejemplo inscribir un equipo al que no pertenece.
+ */
+public class ForbiddenException extends ApiException {
+    public ForbiddenException(String message) {
+        super(HttpStatus.FORBIDDEN, "forbidden", message);
+    }
+}
@@ -1,15 +1,152 @@
 package com.torneo.api.exceptions;
 
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Traduce las excepciones a respuestas RFC 7807 (application/problem+json).
+ *
+ * ✔ Las excepciones de dominio (ApiException) llevan su propio estado: 403, 404, 409, 422, 429.
+ * ✔ Errores de Spring MVC (JSON ilegible, parámetro faltante, método no soportado) los resuelve
+ *   ResponseEntityExceptionHandler; las validaciones de @Valid devuelven 422 con el error de cada campo.
+ * ✔ Lo inesperado es 500 y no expone el mensaje interno.
+ * ✔ El log está acotado: los 5xx se escriben con traza pero con un máximo por minuto y por tipo;
+ *   los 4xx se muestrean y se escriben en una línea, sin traza.
+ */
+@Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final String TYPE_PREFIX = "urn:torneo:problem:";
+
+    private final ErrorLogLimiter logLimiter;
+
+    public GlobalExceptionHandler(@Value("${torneo.errors.log-per-minute:20}") int logPerMinute,
+                                  @Value("${torneo.errors.client-sample-rate:100}") int clientSampleRate) {
+        this.logLimiter = new ErrorLogLimiter(logPerMinute, clientSampleRate);
+    }
+
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<ProblemDetail> handleApi(ApiException ex, HttpServletRequest request) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.status(ex.getStatus());
+        if (ex instanceof TooManyRequestsException tooMany && tooMany.getRetryAfter() != null) {
+            respuesta.header(HttpHeaders.RETRY_AFTER, String.valueOf(segundos(tooMany.getRetryAfter())));
+        }
+        logClientError(ex.getStatus(), ex.getMessage(), request);
+        return respuesta.body(problem(ex.getStatus(), ex.getCode(), ex.getMessage(), request));
+    }
+
+    // Versión vieja (@Version): el cliente debe releer y reintentar
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLock(ObjectOptimisticLockingFailureException ex,
+                                                              HttpServletRequest request) {
+        return handleApi(new ConflictException("El recurso fue modificado por otra petición."), request);
+    }
+
+    // Restricción única o FK: dos peticiones crearon lo mismo a la vez, o el recurso está referenciado
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleIntegrity(DataIntegrityViolationException ex,
+                                                         HttpServletRequest request) {
+        return handleApi(new ConflictException("El recurso ya existe o está referenciado por otro."), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleBadRequest(IllegalArgumentException ex, HttpServletRequest request) {
+        logClientError(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        return ResponseEntity.badRequest().body(problem(HttpStatus.BAD_REQUEST, "bad-request", ex.getMessage(), request));
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ProblemDetail> handleAuthentication(AuthenticationException ex, HttpServletRequest request) {
+        logClientError(HttpStatus.UNAUTHORIZED, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(problem(HttpStatus.UNAUTHORIZED, "unauthorized", "Credenciales inválidas.", request));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ProblemDetail> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
+        return handleApi(new ForbiddenException("No tenés permiso para esta operación."), request);
+    }
+
+    // Sin conexión disponible a tiempo (pool o semáforo de conexiones agotado)
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ProblemDetail> handleUnavailable(CannotCreateTransactionException ex,
+                                                           HttpServletRequest request) {
+        logServerError(ex, request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", "El servicio está saturado, reintentá en unos segundos.", request));
+    }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handle(Exception ex) {
-        ex.printStackTrace();
-        return ResponseEntity.badRequest().body("ERROR: " + ex.getMessage());
+    public ResponseEntity<ProblemDetail> handle(Exception ex, HttpServletRequest request) {
+        logServerError(ex, request);
+        return ResponseEntity.internalServerError()
+                .body(problem(HttpStatus.INTERNAL_SERVER_ERROR, "internal", "Error interno.", request));
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
+        Map<String, String> errores = new LinkedHashMap<>();
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            errores.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        ProblemDetail body = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, "Hay datos inválidos.");
+        body.setType(URI.create(TYPE_PREFIX + "validation"));
+        body.setProperty("errors", errores);
+        return handleExceptionInternal(ex, body, headers, HttpStatus.UNPROCESSABLE_ENTITY, request);
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String code, String detail, HttpServletRequest request) {
+        ProblemDetail body = ProblemDetail.forStatusAndDetail(status, detail);
+        body.setType(URI.create(TYPE_PREFIX + code));
+        body.setInstance(URI.create(request.getRequestURI()));
+        return body;
+    }
+
+    private void logClientError(HttpStatus status, String mensaje, HttpServletRequest request) {
+        if (!logLimiter.sampled()) {
+            return;
+        }
+        long omitidas = logLimiter.tryLog(String.valueOf(status.value()));
+        if (omitidas >= 0) {
+            log.warn("{} {} {}: {}{}", status.value(), request.getMethod(), request.getRequestURI(), mensaje,
+                    omitidas > 0 ? " (" + omitidas + " omitidos)" : "");
+        }
+    }
+
+    private void logServerError(Exception ex, HttpServletRequest request) {
+        long omitidas = logLimiter.tryLog(ex.getClass().getName());
+        if (omitidas >= 0) {
+            log.error("{} {} falló{}", request.getMethod(), request.getRequestURI(),
+                    omitidas > 0 ? " (" + omitidas + " errores iguales omitidos)" : "", ex);
+        }
+    }
+
+    private static long segundos(Duration duracion) {
+        return Math.max(1, (duracion.toMillis() + 999) / 1000);
     }
 }
@@ -1,15 +1,13 @@
 package com.torneo.api.exceptions;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
 
 /**
  * Excepción personalizada para recursos no encontrados (404).
  * Se lanza cuando no existe un torneo, usuario u otro recurso esperado.
  */
-@ResponseStatus(HttpStatus.NOT_FOUND)
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends ApiException {
     public NotFoundException(String message) {
-        super(message);
+        super(HttpStatus.NOT_FOUND, "not-found", message);
     }
 }
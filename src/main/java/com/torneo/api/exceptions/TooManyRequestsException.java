@@ -0,0 +1,23 @@
+package com.torneo.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Excepción para peticiones rechazadas por exceso de carga o de cuota (429).
+ * El cliente debe esperar retryAfter antes de reintentar (cabecera Retry-After).
+ */
+public class TooManyRequestsException extends ApiException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "too-many-requests", message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
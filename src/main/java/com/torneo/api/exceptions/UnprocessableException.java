@@ -0,0 +1,14 @@
+package com.torneo.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción para peticiones bien formadas que violan una regla del negocio (422),
+ * por ejemplo un cupo de torneo que no es potencia de dos o una Idempotency-Key
+ * reutilizada con otros datos.
+ */
+public class UnprocessableException extends ApiException {
+    public UnprocessableException(String message) {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, "unprocessable", message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.torneo.api.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que guarda la respuesta de una escritura hecha con cabecera `Idempotency-Key`.
+ *
+ * ✔ El ID es el alcance (por ejemplo "results"), el usuario que la envió y la clave del cliente.
+ * ✔ `requestHash` permite detectar que se reusó la clave con otros datos.
+ * ✔ Se guarda en la misma transacción que la escritura: si existe la fila, la escritura se hizo.
+ * ✔ Nunca se actualiza: isNew() siempre es true para que save() haga INSERT y una clave
+ *   repetida falle por clave primaria en vez de pisar la fila existente.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(length = 200)
+    private String id;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Lob
+    @Column(name = "response_body", nullable = false)
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
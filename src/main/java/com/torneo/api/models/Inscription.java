@@ -26,7 +26,8 @@ import java.time.LocalDate;
 public class Inscription {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inscription_seq")
+    @SequenceGenerator(name = "inscription_seq", sequenceName = "inscriptions_seq", allocationSize = 50)
     private Long id;
 
 
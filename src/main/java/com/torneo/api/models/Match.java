@@ -4,6 +4,8 @@
  * ✔ Cada partido pertenece a un torneo.
  * ✔ Tiene un equipo 1, equipo 2, sus respectivos puntajes y un estado (ej. "PENDIENTE", "FINALIZADO").
  * ✔ Se usa para programar y registrar resultados de enfrentamientos.
+ * ✔ Bloqueo optimista (@Version): los eventos en vivo suman al marcador con un UPDATE que
+ *   también sube la versión, así un PUT concurrente falla con 409 en vez de pisar esos puntos.
  */
 
 package com.torneo.api.models;
@@ -21,7 +23,8 @@ import lombok.*;
 public class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_seq")
+    @SequenceGenerator(name = "match_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
 
     // Relación con torneo
@@ -47,4 +50,8 @@ public class Match {
 
     @Column(nullable = false)
     private String status;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
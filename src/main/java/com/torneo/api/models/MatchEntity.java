@@ -18,7 +18,8 @@ import java.time.LocalDate;
 public class MatchEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_entity_seq")
+    @SequenceGenerator(name = "match_entity_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "tournament_id", nullable = false)
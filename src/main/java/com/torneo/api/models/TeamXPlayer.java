@@ -2,6 +2,8 @@ package com.torneo.api.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Builder
 @NoArgsConstructor
@@ -10,10 +12,13 @@ import lombok.*;
 @Setter
 @Entity
 @Table(name = "teamXplayer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-players")
 public class TeamXPlayer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_x_player_seq")
+    @SequenceGenerator(name = "team_x_player_seq", sequenceName = "team_xplayer_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
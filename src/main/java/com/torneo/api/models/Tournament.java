@@ -4,6 +4,8 @@ import com.torneo.api.enums.GamesCategory;
 import com.torneo.api.enums.GamesState;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -13,6 +15,8 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "tournaments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournaments")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,8 @@ import java.time.LocalDate;
 public class Tournament {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_seq")
+    @SequenceGenerator(name = "tournament_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -38,6 +43,11 @@ public class Tournament {
     @Column(nullable = false)
     private GamesState state;
 
+    // Bloqueo optimista: un save con una versión vieja falla en vez de pisar otro cambio
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "start_date", nullable = true)
     private LocalDate startDate;
 
@@ -47,4 +57,8 @@ public class Tournament {
     @Column(name = "max_teams", nullable = false)
     private Integer maxTeams;
 
+    // Lugares ocupados: solo lo cambian los UPDATE condicionales de TournamentRepository
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer inscribed;
+
 }
@@ -0,0 +1,45 @@
+package com.torneo.api.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad con el documento de un torneo finalizado: JSON comprimido con gzip
+ * (ver TournamentArchiveDTO).
+ *
+ * ✔ Se escribe una sola vez, al finalizar el torneo, y nunca se modifica.
+ * ✔ isNew() siempre es true: save() hace INSERT y un segundo archivo del mismo torneo falla.
+ */
+@Entity
+@Table(name = "tournament_archives")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentArchive implements Persistable<Long> {
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] document;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public Long getId() {
+        return tournamentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
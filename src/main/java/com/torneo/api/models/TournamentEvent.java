@@ -0,0 +1,49 @@
+package com.torneo.api.models;
+
+import com.torneo.api.enums.TournamentEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un hecho ocurrido en un torneo (inscripción, partido, resultado, cambio de estado).
+ *
+ * ✔ Solo se insertan: nunca se modifican ni se borran.
+ * ✔ `seq` es correlativo dentro del torneo y define el orden de replay.
+ * ✔ `payload` guarda los datos del evento en JSON (ver TournamentEventPayload).
+ */
+@Entity
+@Table(name = "tournament_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_event_seq")
+    @SequenceGenerator(name = "tournament_event_seq", sequenceName = "tournament_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    @Column(nullable = false)
+    private Long seq;
+
+    // VARCHAR y no ENUM: agregar tipos nuevos no requiere migrar la columna
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 40)
+    private TournamentEventType type;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.torneo.api.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que guarda el estado de las proyecciones de un torneo (posiciones y llaves)
+ * calculado hasta el evento `lastSeq`, para no reproducir el historial completo en cada lectura.
+ */
+@Entity
+@Table(name = "tournament_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentSnapshot {
+
+    @Id
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    @Lob
+    @Column(nullable = false)
+    private String state;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.models.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Limpieza periódica de claves vencidas
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.createdAt < :limite")
+    int deleteOlderThan(@Param("limite") LocalDateTime limite);
+}
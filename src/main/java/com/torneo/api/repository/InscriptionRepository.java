@@ -1,9 +1,16 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.Inscription;
+import com.torneo.api.repository.projections.InscriptionSummary;
+import com.torneo.api.repository.projections.TeamNode;
+import com.torneo.api.repository.projections.TournamentNode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +23,45 @@ public interface InscriptionRepository extends JpaRepository<Inscription, Long>
 
     Optional<Inscription> findByTeam_IdAndTournament_Id(Long teamId, Long tournamentId);
 
+    // Detalle del torneo: inscripciones con su equipo en una sola consulta
+    @Query("select i from Inscription i join fetch i.team where i.tournament.id = :tournamentId order by i.id")
+    List<Inscription> findWithTeamByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Depuración de torneos ya archivados
+    @Modifying
+    @Query("delete from Inscription i where i.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Listado paginado: los IDs de la página salen de TournamentPartitionService (una consulta por partición)
+    @Query("""
+            select i.id as id, te.id as teamId, te.name as teamName, t.name as tournamentName
+            from Inscription i join i.team te join i.tournament t
+            where i.id in :ids
+            order by i.id
+            """)
+    List<InscriptionSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Sin claves foráneas (tabla particionada): se consulta antes de borrar torneos o equipos
+    boolean existsByTournament_Id(Long tournamentId);
+
+    boolean existsByTeam_Id(Long teamId);
+
+    // API GraphQL: equipos inscriptos en varios torneos a la vez (ownerId = torneo)
+    @Query("""
+            select i.tournament.id as ownerId, te.id as id, te.name as name, te.captain.id as captainId
+            from Inscription i join i.team te
+            where i.tournament.id in :tournamentIds
+            order by te.id
+            """)
+    List<TeamNode> findTeamNodesByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    // API GraphQL: torneos de varios equipos a la vez (ownerId = equipo)
+    @Query("""
+            select i.team.id as ownerId, t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.endDate as endDate, t.maxTeams as maxTeams
+            from Inscription i join i.tournament t
+            where i.team.id in :teamIds
+            order by t.id
+            """)
+    List<TournamentNode> findTournamentNodesByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
 }
@@ -1,12 +1,84 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.Match;
+import com.torneo.api.repository.projections.MatchNode;
+import com.torneo.api.repository.projections.MatchSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
     List<Match> findByTournamentId(Long tournamentId);
+
+    // Detalle del torneo: partidos con ambos equipos en una sola consulta
+    @Query("select m from Match m join fetch m.firstTeam join fetch m.secondTeam where m.tournament.id = :tournamentId order by m.id")
+    List<Match> findWithTeamsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Depuración de torneos ya archivados
+    @Modifying
+    @Query("delete from Match m where m.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Listado paginado: los IDs de la página salen de TournamentPartitionService (una consulta por partición)
+    @Query("""
+            select m.id as id, t.name as tournamentName, ft.name as firstTeamName, st.name as secondTeamName,
+                   m.firstTeamScore as firstTeamScore, m.secondTeamScore as secondTeamScore, m.status as status
+            from Match m join m.tournament t join m.firstTeam ft join m.secondTeam st
+            where m.id in :ids
+            order by m.id
+            """)
+    List<MatchSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Sin claves foráneas (tabla particionada): se consulta antes de borrar torneos o equipos
+    boolean existsByTournament_Id(Long tournamentId);
+
+    boolean existsByFirstTeam_IdOrSecondTeam_Id(Long firstTeamId, Long secondTeamId);
+
+    // Exportación: cursor forward-only, se consume dentro de una transacción y se cierra al terminar
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            select m.id as id, t.name as tournamentName, ft.name as firstTeamName, st.name as secondTeamName,
+                   m.firstTeamScore as firstTeamScore, m.secondTeamScore as secondTeamScore, m.status as status
+            from Match m join m.tournament t join m.firstTeam ft join m.secondTeam st
+            where (:tournamentId is null or t.id = :tournamentId)
+              and (:from is null or t.startDate >= :from)
+              and (:to is null or t.startDate <= :to)
+            order by m.id
+            """)
+    Stream<MatchSummary> streamForExport(@Param("tournamentId") Long tournamentId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // API GraphQL: partidos por ID y por torneo (un lote por nivel de la consulta)
+    @Query("""
+            select m.id as id, m.tournament.id as tournamentId, m.firstTeam.id as firstTeamId, m.secondTeam.id as secondTeamId,
+                   m.firstTeamScore as firstTeamScore, m.secondTeamScore as secondTeamScore, m.status as status
+            from Match m
+            where m.id in :ids
+            """)
+    List<MatchNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select m.id as id, m.tournament.id as tournamentId, m.firstTeam.id as firstTeamId, m.secondTeam.id as secondTeamId,
+                   m.firstTeamScore as firstTeamScore, m.secondTeamScore as secondTeamScore, m.status as status
+            from Match m
+            where m.tournament.id in :tournamentIds
+            order by m.id
+            """)
+    List<MatchNode> findNodesByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
 }
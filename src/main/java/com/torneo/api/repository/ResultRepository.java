@@ -1,9 +1,82 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.Result;
+import com.torneo.api.repository.projections.ResultSummary;
+import com.torneo.api.repository.projections.TeamResultCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface ResultRepository extends JpaRepository<Result, Long> {
+
+    // Detalle del torneo: resultados del torneo; solo se leen los IDs de los equipos, sin joins
+    @Query("select r from Result r where r.tournament.id = :tournamentId order by r.id")
+    List<Result> findByTournamentIdOrderById(@Param("tournamentId") Long tournamentId);
+
+    // Depuración de torneos ya archivados
+    @Modifying
+    @Query("delete from Result r where r.tournament.id = :tournamentId")
+    int deleteByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // Listado paginado: los IDs de la página salen de TournamentPartitionService (una consulta por partición)
+    @Query("""
+            select r.id as id, r.tournament.id as tournamentId, r.winnerTeam.id as winnerTeamId,
+                   r.loserTeam.id as loserTeamId, r.scoreWinnerTeam as scoreWinnerTeam, r.scoreLoserTeam as scoreLoserTeam
+            from Result r
+            where r.id in :ids
+            order by r.id
+            """)
+    List<ResultSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Sin claves foráneas (tabla particionada): se consulta antes de borrar torneos o equipos
+    boolean existsByTournament_Id(Long tournamentId);
+
+    boolean existsByWinnerTeam_IdOrLoserTeam_Id(Long winnerTeamId, Long loserTeamId);
+
+    // Exportación: cursor forward-only, se consume dentro de una transacción y se cierra al terminar
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            select r.id as id, t.id as tournamentId, r.winnerTeam.id as winnerTeamId,
+                   r.loserTeam.id as loserTeamId, r.scoreWinnerTeam as scoreWinnerTeam, r.scoreLoserTeam as scoreLoserTeam
+            from Result r join r.tournament t
+            where (:tournamentId is null or t.id = :tournamentId)
+              and (:from is null or t.startDate >= :from)
+              and (:to is null or t.startDate <= :to)
+            order by r.id
+            """)
+    Stream<ResultSummary> streamForExport(@Param("tournamentId") Long tournamentId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    // API GraphQL: resultados de varios torneos a la vez
+    @Query("""
+            select r.id as id, r.tournament.id as tournamentId, r.winnerTeam.id as winnerTeamId,
+                   r.loserTeam.id as loserTeamId, r.scoreWinnerTeam as scoreWinnerTeam, r.scoreLoserTeam as scoreLoserTeam
+            from Result r
+            where r.tournament.id in :tournamentIds
+            order by r.id
+            """)
+    List<ResultSummary> findSummariesByTournamentIdIn(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    // Predicciones: victorias y derrotas históricas de cada equipo, en todos los torneos
+    @Query("select r.winnerTeam.id as teamId, count(r) as total from Result r where r.winnerTeam.id in :teamIds group by r.winnerTeam.id")
+    List<TeamResultCount> countWinsByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+    @Query("select r.loserTeam.id as teamId, count(r) as total from Result r where r.loserTeam.id in :teamIds group by r.loserTeam.id")
+    List<TeamResultCount> countLossesByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
 }
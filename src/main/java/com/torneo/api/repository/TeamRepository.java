@@ -1,12 +1,38 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.TeamEntity;
+import com.torneo.api.repository.projections.TeamNode;
+import com.torneo.api.repository.projections.TeamSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<TeamEntity, Long> {
 
+    // Borrado del equipo: bloquea la fila hasta el commit mientras se controla que no tenga filas asociadas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TeamEntity t where t.id = :id")
+    Optional<TeamEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // Inscripciones y partidos: lock compartido (no se esperan entre sí), solo choca con el borrado del equipo
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from TeamEntity t where t.id = :id")
+    Optional<TeamEntity> findByIdForShare(@Param("id") Long id);
+
+    // Paginación keyset: siguiente página a partir del último ID entregado
+    @Query("select t.id as id, t.name as name from TeamEntity t where t.id > :afterId order by t.id")
+    List<TeamSummary> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // API GraphQL: equipos por ID (un lote por nivel de la consulta)
+    @Query("select t.id as id, t.name as name, t.captain.id as captainId from TeamEntity t where t.id in :ids")
+    List<TeamNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,10 +1,14 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.TeamXPlayer;
-import jdk.dynalink.linker.LinkerServices;
+import com.torneo.api.repository.projections.RosterEntryNode;
+import com.torneo.api.repository.projections.TeamNode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 @Repository
 public interface TeamXPlayerRepository extends JpaRepository<TeamXPlayer, Long>
@@ -12,4 +16,33 @@ public interface TeamXPlayerRepository extends JpaRepository<TeamXPlayer, Long>
     List<TeamXPlayer> findByTeamEntity_Id(Long id);///→ Devuelve todos los usuarios que pertenecen a un equipo.
     List<TeamXPlayer> findByUser_IdAndTeamEntity_Id(Long userId, Long teamId);///→ Verifica si un usuario específico pertenece a un equipo específico (clave para validar inscripciones).
 
+    ///→ Planteles de todos los equipos inscriptos en un torneo, con el usuario ya cargado (detalle del torneo).
+    @Query("""
+            select txp from TeamXPlayer txp join fetch txp.user
+            where txp.teamEntity.id in (select i.team.id from Inscription i where i.tournament.id = :tournamentId)
+            order by txp.id
+            """)
+    List<TeamXPlayer> findRostersByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    ///→ Planteles de varios equipos a la vez, con el usuario ya cargado (archivo de torneos finalizados).
+    @Query("select txp from TeamXPlayer txp join fetch txp.user where txp.teamEntity.id in :teamIds order by txp.id")
+    List<TeamXPlayer> findWithUserByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
+    ///→ API GraphQL: planteles de varios equipos a la vez, solo claves.
+    @Query("""
+            select txp.teamEntity.id as teamId, txp.user.id as userId, txp.isCaptain as captain
+            from TeamXPlayer txp
+            where txp.teamEntity.id in :teamIds
+            order by txp.id
+            """)
+    List<RosterEntryNode> findRosterNodesByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+    ///→ API GraphQL: equipos de varios usuarios a la vez (ownerId = usuario).
+    @Query("""
+            select txp.user.id as ownerId, t.id as id, t.name as name, t.captain.id as captainId
+            from TeamXPlayer txp join txp.teamEntity t
+            where txp.user.id in :userIds
+            order by t.id
+            """)
+    List<TeamNode> findTeamNodesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,9 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.models.TournamentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TournamentArchiveRepository extends JpaRepository<TournamentArchive, Long> {
+}
@@ -0,0 +1,24 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.models.TournamentEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TournamentEventRepository extends JpaRepository<TournamentEvent, Long> {
+
+    // Último seq usado en el torneo (0 si todavía no tiene eventos)
+    @Query("select coalesce(max(e.seq), 0) from TournamentEvent e where e.tournamentId = :tournamentId")
+    long findLastSeq(@Param("tournamentId") Long tournamentId);
+
+    // Replay y paginación del historial: eventos posteriores a un seq, en orden
+    @Query("select e from TournamentEvent e where e.tournamentId = :tournamentId and e.seq > :afterSeq order by e.seq")
+    List<TournamentEvent> findAfter(@Param("tournamentId") Long tournamentId,
+                                    @Param("afterSeq") long afterSeq,
+                                    Pageable pageable);
+}
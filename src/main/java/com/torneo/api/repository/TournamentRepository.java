@@ -3,11 +3,19 @@ package com.torneo.api.repository;
 import com.torneo.api.enums.GamesCategory;
 import com.torneo.api.enums.GamesState;
 import com.torneo.api.models.Tournament;
+import com.torneo.api.repository.projections.TournamentNode;
+import com.torneo.api.repository.projections.TournamentSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
@@ -18,4 +26,90 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
 
     List<Tournament> findByStartDate(LocalDate startDate);
 
+    // Estado leído de la base, aunque la entidad del contexto esté desactualizada por un UPDATE masivo
+    @Query("select t.state from Tournament t where t.id = :id")
+    Optional<GamesState> findStateById(@Param("id") Long id);
+
+    // Ocupa un lugar del cupo en un solo UPDATE condicional: devuelve 0 si el torneo ya no está
+    // en inscripción o no quedan lugares, sin contar filas ni esperar otro lock que el de la fila
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Tournament t set t.inscribed = t.inscribed + 1, t.version = t.version + 1
+            where t.id = :id and t.state = com.torneo.api.enums.GamesState.INSCRIPTION
+              and t.inscribed < t.maxTeams
+            """)
+    int reserveSlot(@Param("id") Long id);
+
+    // Libera el lugar de una inscripción dada de baja
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Tournament t set t.inscribed = t.inscribed - 1, t.version = t.version + 1
+            where t.id = :id and t.inscribed > 0
+            """)
+    int releaseSlot(@Param("id") Long id);
+
+    // Lugares ocupados leídos de la base, después de reserveSlot
+    @Query("select t.inscribed from Tournament t where t.id = :id")
+    Optional<Integer> findInscribedById(@Param("id") Long id);
+
+    // Transición de estado en un solo UPDATE condicional: devuelve 0 si otro ya cambió el estado
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Tournament t set t.state = :to, t.version = t.version + 1
+            where t.id = :id and t.state = :from
+            """)
+    int transitionState(@Param("id") Long id, @Param("from") GamesState from, @Param("to") GamesState to);
+
+    // Paginación keyset del catálogo: siguiente página a partir del último ID entregado
+    @Query("""
+            select t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.maxTeams as maxTeams
+            from Tournament t
+            where t.id > :afterId
+            order by t.id
+            """)
+    List<TournamentSummary> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.maxTeams as maxTeams
+            from Tournament t
+            where t.state = :state and t.id > :afterId
+            order by t.id
+            """)
+    List<TournamentSummary> findPageByStateAfter(@Param("state") GamesState state,
+                                                 @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.maxTeams as maxTeams
+            from Tournament t
+            where t.category = :category and t.id > :afterId
+            order by t.id
+            """)
+    List<TournamentSummary> findPageByCategoryAfter(@Param("category") GamesCategory category,
+                                                    @Param("afterId") Long afterId, Pageable pageable);
+
+    // API GraphQL: torneos por ID (un lote por nivel de la consulta)
+    @Query("""
+            select t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.endDate as endDate, t.maxTeams as maxTeams
+            from Tournament t
+            where t.id in :ids
+            """)
+    List<TournamentNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // API GraphQL: listado keyset con filtros opcionales
+    @Query("""
+            select t.id as id, t.name as name, t.game as game, t.category as category, t.state as state,
+                   t.startDate as startDate, t.endDate as endDate, t.maxTeams as maxTeams
+            from Tournament t
+            where (:state is null or t.state = :state)
+              and (:category is null or t.category = :category)
+              and t.id > :afterId
+            order by t.id
+            """)
+    List<TournamentNode> findNodePage(@Param("state") GamesState state,
+                                      @Param("category") GamesCategory category,
+                                      @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.models.TournamentSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TournamentSnapshotRepository extends JpaRepository<TournamentSnapshot, Long> {
+
+    // Avanza el snapshot solo si el nuevo llega más lejos: una lectura lenta no pisa uno más reciente
+    @Modifying
+    @Query("""
+            update TournamentSnapshot s set s.lastSeq = :lastSeq, s.state = :state, s.createdAt = :createdAt
+            where s.tournamentId = :tournamentId and s.lastSeq < :lastSeq
+            """)
+    int advance(@Param("tournamentId") Long tournamentId, @Param("lastSeq") Long lastSeq,
+                @Param("state") String state, @Param("createdAt") LocalDateTime createdAt);
+
+    // Primer snapshot del torneo: INSERT directo (save() con ID asignado hace merge) y solo si no
+    // hay fila; la fila del torneo hace de origen porque H2 y MySQL no comparten un SELECT sin FROM
+    @Modifying
+    @Query(value = """
+            insert into tournament_snapshots (tournament_id, last_seq, state, created_at)
+            select t.id, :lastSeq, :state, :createdAt from tournaments t
+            where t.id = :tournamentId
+              and not exists (select 1 from tournament_snapshots s where s.tournament_id = :tournamentId)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("tournamentId") Long tournamentId, @Param("lastSeq") Long lastSeq,
+                       @Param("state") String state, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -1,9 +1,16 @@
 package com.torneo.api.repository;
 
 import com.torneo.api.models.User;
+import com.torneo.api.repository.projections.UserNode;
+import com.torneo.api.repository.projections.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +22,12 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    // Paginación keyset: siguiente página a partir del último ID entregado
+    @Query("select u.id as id, u.username as username, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserSummary> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // API GraphQL: usuarios por ID (un lote por nivel de la consulta)
+    @Query("select u.id as id, u.username as username, u.role as role from User u where u.id in :ids")
+    List<UserNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,11 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de inscripción con las columnas que necesita InscriptionResponseDTO.
+ */
+public interface InscriptionSummary {
+    Long getId();
+    Long getTeamId();
+    String getTeamName();
+    String getTournamentName();
+}
@@ -0,0 +1,15 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de partido para la API GraphQL.
+ * Los IDs salen directo de las claves foráneas, sin joins.
+ */
+public interface MatchNode {
+    Long getId();
+    Long getTournamentId();
+    Long getFirstTeamId();
+    Long getSecondTeamId();
+    Integer getFirstTeamScore();
+    Integer getSecondTeamScore();
+    String getStatus();
+}
@@ -0,0 +1,15 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de partido con las columnas que necesita MatchResponseDTO.
+ * Los nombres de torneo y equipos salen de joins, sin cargar las entidades relacionadas.
+ */
+public interface MatchSummary {
+    Long getId();
+    String getTournamentName();
+    String getFirstTeamName();
+    String getSecondTeamName();
+    Integer getFirstTeamScore();
+    Integer getSecondTeamScore();
+    String getStatus();
+}
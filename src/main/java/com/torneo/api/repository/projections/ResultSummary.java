@@ -0,0 +1,14 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de resultado con las columnas que necesita ResultDTO.
+ * Los IDs salen directo de las claves foráneas, sin joins.
+ */
+public interface ResultSummary {
+    Long getId();
+    Long getTournamentId();
+    Long getWinnerTeamId();
+    Long getLoserTeamId();
+    Integer getScoreWinnerTeam();
+    Integer getScoreLoserTeam();
+}
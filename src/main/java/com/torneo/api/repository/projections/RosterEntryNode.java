@@ -0,0 +1,11 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de TeamXPlayer para la API GraphQL: solo las claves, el equipo y el usuario
+ * se resuelven después por lotes.
+ */
+public interface RosterEntryNode {
+    Long getTeamId();
+    Long getUserId();
+    Boolean getCaptain();
+}
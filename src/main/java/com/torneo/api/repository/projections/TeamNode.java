@@ -0,0 +1,13 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de equipo para la API GraphQL.
+ * ownerId solo viene en las consultas por relación (equipos de varios torneos o usuarios a la vez):
+ * es el torneo o usuario al que pertenece la fila.
+ */
+public interface TeamNode {
+    Long getId();
+    String getName();
+    Long getCaptainId();
+    Long getOwnerId();
+}
@@ -0,0 +1,9 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección con la cantidad de resultados (victorias o derrotas) de un equipo.
+ */
+public interface TeamResultCount {
+    Long getTeamId();
+    Long getTotal();
+}
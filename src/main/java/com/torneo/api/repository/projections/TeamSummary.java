@@ -0,0 +1,9 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de equipo con las columnas que necesita TeamResponseDTO.
+ */
+public interface TeamSummary {
+    Long getId();
+    String getName();
+}
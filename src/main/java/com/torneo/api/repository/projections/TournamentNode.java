@@ -0,0 +1,23 @@
+package com.torneo.api.repository.projections;
+
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección de torneo para la API GraphQL.
+ * ownerId solo viene en las consultas por relación (torneos de varios equipos a la vez):
+ * es el equipo al que pertenece la fila.
+ */
+public interface TournamentNode {
+    Long getId();
+    String getName();
+    String getGame();
+    GamesCategory getCategory();
+    GamesState getState();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    Integer getMaxTeams();
+    Long getOwnerId();
+}
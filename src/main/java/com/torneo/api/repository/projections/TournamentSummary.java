@@ -0,0 +1,19 @@
+package com.torneo.api.repository.projections;
+
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección de torneo con las columnas que necesita TournamentResponseDTO.
+ */
+public interface TournamentSummary {
+    Long getId();
+    String getName();
+    String getGame();
+    GamesCategory getCategory();
+    GamesState getState();
+    LocalDate getStartDate();
+    Integer getMaxTeams();
+}
@@ -0,0 +1,12 @@
+package com.torneo.api.repository.projections;
+
+import com.torneo.api.enums.Role;
+
+/**
+ * Proyección de usuario para la API GraphQL (sin email ni contraseña).
+ */
+public interface UserNode {
+    Long getId();
+    String getUsername();
+    Role getRole();
+}
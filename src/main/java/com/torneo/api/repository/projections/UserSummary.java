@@ -0,0 +1,10 @@
+package com.torneo.api.repository.projections;
+
+/**
+ * Proyección de usuario con las columnas que necesita UserResponse (sin contraseña).
+ */
+public interface UserSummary {
+    Long getId();
+    String getUsername();
+    String getEmail();
+}
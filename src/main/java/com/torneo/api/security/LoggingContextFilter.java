@@ -0,0 +1,76 @@
+package com.torneo.api.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Filtro que completa el MDC de cada petición para el log estructurado.
+ *
+ * ✔ requestId: la cabecera X-Request-Id si viene (acotada), o uno nuevo; se devuelve en la respuesta.
+ * ✔ user: el usuario autenticado; por eso corre después de JwtAuthenticationFilter.
+ * ✔ tournamentId: el id de /api/tournaments/{id}/... o el parámetro tournamentId.
+ */
+@Component
+public class LoggingContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final int MAX_REQUEST_ID = 64;
+    private static final Pattern TORNEO_EN_RUTA = Pattern.compile("/tournaments?/(\\d+)");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > MAX_REQUEST_ID) {
+            requestId = UUID.randomUUID().toString();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put("requestId", requestId);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            MDC.put("user", authentication.getName());
+        }
+
+        String tournamentId = tournamentId(request);
+        if (tournamentId != null) {
+            MDC.put("tournamentId", tournamentId);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove("requestId");
+            MDC.remove("user");
+            MDC.remove("tournamentId");
+        }
+    }
+
+    private static String tournamentId(HttpServletRequest request) {
+        Matcher matcher = TORNEO_EN_RUTA.matcher(request.getRequestURI());
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        String parametro = request.getParameter("tournamentId");
+        return parametro != null && parametro.chars().allMatch(Character::isDigit) && !parametro.isEmpty()
+                ? parametro
+                : null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.torneo.api.security;
+
+import com.torneo.api.config.RateLimitProperties;
+import com.torneo.api.enums.RateLimitKey;
+import com.torneo.api.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtro de rate limiting con un balde de fichas por política y por usuario (o IP).
+ *
+ * ✔ Corre en la cadena de seguridad después de JwtAuthenticationFilter, antes de llegar a
+ *   BCrypt o a la base: un bot que insiste con /api/auth/login se corta acá.
+ * ✔ Las políticas (RateLimitProperties) eligen ruta, método, capacidad, período y si se cobra
+ *   por usuario o por IP. La primera que coincide es la que aplica.
+ * ✔ Toda respuesta de una ruta con política lleva RateLimit-Limit, RateLimit-Remaining,
+ *   RateLimit-Reset y RateLimit-Policy; el rechazo es 429 con Retry-After y cuerpo RFC 7807
+ *   (lo arma GlobalExceptionHandler).
+ * ✔ Memoria acotada: los baldes llenos sin uso se descartan cada minuto; si se llega a
+ *   maxBuckets, las claves nuevas comparten un balde por política hasta que haya lugar.
+ * ✔ Métricas: ratelimit.rejected (por política) y ratelimit.buckets.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final List<Politica> politicas;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.exceptionResolver = exceptionResolver;
+        this.politicas = properties.getPolicies().stream()
+                .map(policy -> new Politica(policy, PathPatternParser.defaultInstance.parse(policy.getPath()),
+                        Counter.builder("ratelimit.rejected")
+                                .description("Peticiones rechazadas por rate limiting")
+                                .tag("policy", policy.getName())
+                                .register(meterRegistry)))
+                .toList();
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("Baldes de rate limiting en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || politicas.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Politica politica = politicaPara(request);
+        if (politica == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long ahora = System.nanoTime();
+        TokenBucket bucket = bucket(politica.policy.getName(), sujeto(politica.policy, request), ahora);
+        TokenBucket.Decision decision = bucket.tryConsume(ahora, politica.intervalo, politica.policy.getCapacity());
+
+        response.setHeader("RateLimit-Limit", String.valueOf(politica.policy.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(segundos(decision.resetNanos())));
+        response.setHeader("RateLimit-Policy", politica.policy.getCapacity() + ";w=" + politica.policy.getPeriod().toSeconds());
+
+        if (!decision.allowed()) {
+            politica.rechazos.increment();
+            exceptionResolver.resolveException(request, response, null, new TooManyRequestsException(
+                    "Demasiadas peticiones, reintentá más tarde.", Duration.ofNanos(decision.retryNanos())));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Descarta los baldes llenos que no se usan desde hace idleTimeout.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long ahora = System.nanoTime();
+        long idle = properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.isIdle(ahora, idle));
+    }
+
+    private TokenBucket bucket(String politica, String sujeto, long ahora) {
+        String clave = politica + ":" + sujeto;
+        TokenBucket bucket = buckets.get(clave);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            evictIdle();
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                // Sin lugar: las claves nuevas comparten un balde, así el mapa no crece sin límite
+                clave = politica + ":*";
+            }
+        }
+        return buckets.computeIfAbsent(clave, k -> new TokenBucket(ahora));
+    }
+
+    private Politica politicaPara(HttpServletRequest request) {
+        PathContainer ruta = PathContainer.parsePath(request.getRequestURI());
+        for (Politica politica : politicas) {
+            String metodo = politica.policy.getMethod();
+            if ((metodo == null || metodo.isBlank() || metodo.equalsIgnoreCase(request.getMethod()))
+                    && politica.pattern.matches(ruta)) {
+                return politica;
+            }
+        }
+        return null;
+    }
+
+    private static String sujeto(RateLimitProperties.Policy policy, HttpServletRequest request) {
+        if (policy.getKey() == RateLimitKey.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "u:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long segundos(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+
+    private static final class Politica {
+        private final RateLimitProperties.Policy policy;
+        private final PathPattern pattern;
+        private final Counter rechazos;
+        private final long intervalo;
+
+        private Politica(RateLimitProperties.Policy policy, PathPattern pattern, Counter rechazos) {
+            this.policy = policy;
+            this.pattern = pattern;
+            this.rechazos = rechazos;
+            this.intervalo = Math.max(1, policy.getPeriod().toNanos() / policy.getCapacity());
+        }
+    }
+}
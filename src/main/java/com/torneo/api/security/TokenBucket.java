@@ -0,0 +1,55 @@
+package com.torneo.api.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de fichas sin locks, expresado como GCRA (generic cell rate algorithm).
+ *
+ * ✔ En vez de guardar fichas y última recarga guarda un solo instante (tat): cuándo volvería a
+ *   estar lleno. Cada petición lo corre un intervalo (period / capacity); si queda más de
+ *   capacity intervalos adelante, la petición se rechaza.
+ * ✔ Es equivalente a un balde de capacity fichas que se recarga de a una por intervalo, pero se
+ *   actualiza con un único compareAndSet.
+ */
+final class TokenBucket {
+
+    private final AtomicLong tat;
+    private volatile long lastUsed;
+
+    TokenBucket(long ahora) {
+        this.tat = new AtomicLong(ahora);
+        this.lastUsed = ahora;
+    }
+
+    Decision tryConsume(long ahora, long intervalo, int capacity) {
+        long tolerancia = intervalo * capacity;
+        while (true) {
+            long actual = tat.get();
+            long base = actual - ahora > 0 ? actual : ahora;
+            long nuevo = base + intervalo;
+            long espera = nuevo - ahora - tolerancia;
+            if (espera > 0) {
+                return new Decision(false, 0, base - ahora, espera);
+            }
+            if (tat.compareAndSet(actual, nuevo)) {
+                lastUsed = ahora;
+                int restantes = (int) ((tolerancia - (nuevo - ahora)) / intervalo);
+                return new Decision(true, restantes, nuevo - ahora, 0);
+            }
+        }
+    }
+
+    /**
+     * Lleno y sin uso desde hace más de idleNanos: descartarlo no cambia nada.
+     */
+    boolean isIdle(long ahora, long idleNanos) {
+        return tat.get() - ahora <= 0 && ahora - lastUsed > idleNanos;
+    }
+
+    /**
+     * @param resetNanos  tiempo hasta que el balde vuelve a estar lleno
+     * @param retryNanos  si se rechazó, tiempo hasta que entra la próxima petición
+     */
+    record Decision(boolean allowed, int remaining, long resetNanos, long retryNanos) {
+    }
+}
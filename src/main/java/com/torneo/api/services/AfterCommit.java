@@ -0,0 +1,30 @@
+package com.torneo.api.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Efectos que no se pueden deshacer (mails, caches e índices en memoria) que solo deben
+ * ocurrir si la transacción en curso se confirma.
+ *
+ * ✔ Con transacción activa, la acción se registra para después del commit; si hay rollback no corre.
+ * ✔ Sin transacción, corre en el momento: lo que la precede ya quedó confirmado.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+}
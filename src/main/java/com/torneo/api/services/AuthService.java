@@ -1,16 +1,18 @@
 package com.torneo.api.services;
 
 import com.torneo.api.dto.*;
+import com.torneo.api.exceptions.ConflictException;
+import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.User;
 import com.torneo.api.repository.UserRepository;
 import com.torneo.api.security.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +23,7 @@ import java.util.List;
  * Servicio que gestiona el registro y login de usuarios.
  * En el registro encripta la contraseña y genera el token.
  * En el login verifica las credenciales y devuelve un JWT.
+ * Cada alta, cambio o baja se refleja en el autocompletado de usuarios (NameSearchService).
  */
 @Service
 @RequiredArgsConstructor
@@ -31,10 +34,11 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserDetailsServiceImpl userDetailsService;
+    private final NameSearchService nameSearchService;
 
     public LoginResponse register(RegisterRequest request) {
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("El usuario ya existe");
+            throw new ConflictException("El usuario ya existe");
         }
 
         User user = User.builder()
@@ -45,6 +49,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        nameSearchService.userSaved(user.getId(), user.getUsername());
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
         String token = jwtService.generateToken(userDetails);
@@ -66,7 +71,7 @@ public class AuthService {
      //   Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
        // String email = authentication.getName();
         User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
+                .orElseThrow(() -> new NotFoundException("Usuario no encontrado"));
 
         // Actualizar los campos permitidos
         user.setUsername(request.getUsername());
@@ -75,17 +80,22 @@ public class AuthService {
         user.setRole(request.getRole());
 
         userRepository.save(user);
+        nameSearchService.userSaved(user.getId(), user.getUsername());
     }
 
-    public List<UserResponse> getAllUsers()
+    public CursorPageDTO<UserResponse> getAllUsers(String cursor, Integer size)
     {
-        return userRepository.findAll().stream()
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<UserResponse> filas = userRepository
+                .findPageAfter(CursorPageDTO.decodeCursor(cursor), PageRequest.ofSize(pageSize + 1)).stream()
                 .map(usuario -> new UserResponse(usuario.getId(), usuario.getUsername(), usuario.getEmail()))
                 .toList();
+        return CursorPageDTO.of(filas, pageSize, UserResponse::getId);
     }
 
     public  void deleteuser(long id)
     {
         userRepository.deleteById(id);
+        nameSearchService.userDeleted(id);
     }
 }
@@ -0,0 +1,146 @@
+package com.torneo.api.services;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulación Monte Carlo de lo que le queda a una llave de eliminación directa.
+ *
+ * ✔ Los equipos se numeran de 0 a n-1 y todo el estado son arreglos primitivos: una simulación
+ *   no crea objetos.
+ * ✔ La ronda en curso respeta los cruces pendientes; desde la siguiente los ganadores se sortean
+ *   como en PhaseService (mezcla al azar y cruce de a pares; con cantidad impar el último pasa libre).
+ * ✔ Las simulaciones se reparten en tareas fork/join. Cada hoja usa su propio SplittableRandom
+ *   (un split del de su padre) y su propio contador; los contadores se suman al volver.
+ */
+final class BracketSimulator {
+
+    private static final int SIMULATIONS_PER_TASK = 16_384;
+
+    // winProbability[a][b]: probabilidad de que a le gane a b
+    private final double[][] winProbability;
+    private final int[] pendingFirst;
+    private final int[] pendingSecond;
+    // Equipos que ya pasaron la ronda en curso (o todos, si la ronda no empezó)
+    private final int[] advanced;
+    private final int teams;
+    private final int rounds;
+
+    BracketSimulator(double[][] winProbability, int[] pendingFirst, int[] pendingSecond, int[] advanced) {
+        this.winProbability = winProbability;
+        this.pendingFirst = pendingFirst;
+        this.pendingSecond = pendingSecond;
+        this.advanced = advanced;
+        this.teams = winProbability.length;
+
+        // Con cruces pendientes, la ronda en curso deja vivos a un ganador por cruce más los que ya pasaron
+        int vivos = pendingFirst.length + advanced.length;
+        int r = pendingFirst.length > 0 ? 1 : 0;
+        while (vivos > 1) {
+            vivos = (vivos + 1) / 2;
+            r++;
+        }
+        this.rounds = r;
+    }
+
+    int rounds() {
+        return rounds;
+    }
+
+    /**
+     * Corre las simulaciones y devuelve cuántas veces cada equipo ganó cada ronda,
+     * en un arreglo plano: índice equipo * rounds() + ronda.
+     */
+    long[] run(ForkJoinPool pool, int simulations, SplittableRandom random) {
+        if (rounds == 0) {
+            return new long[0];
+        }
+        return pool.invoke(new Tarea(simulations, random));
+    }
+
+    private long[] simular(int cantidad, SplittableRandom random) {
+        long[] ganadas = new long[teams * rounds];
+        int[] ronda = new int[teams];
+        int[] siguiente = new int[teams];
+
+        for (int s = 0; s < cantidad; s++) {
+            int vivos = 0;
+            int numero = 0;
+            if (pendingFirst.length > 0) {
+                for (int i = 0; i < pendingFirst.length; i++) {
+                    int ganador = jugar(pendingFirst[i], pendingSecond[i], random);
+                    ganadas[ganador * rounds]++;
+                    ronda[vivos++] = ganador;
+                }
+                for (int equipo : advanced) {
+                    ganadas[equipo * rounds]++;
+                    ronda[vivos++] = equipo;
+                }
+                numero = 1;
+            } else {
+                System.arraycopy(advanced, 0, ronda, 0, advanced.length);
+                vivos = advanced.length;
+            }
+
+            while (vivos > 1) {
+                for (int i = vivos - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int aux = ronda[i];
+                    ronda[i] = ronda[j];
+                    ronda[j] = aux;
+                }
+                int pasan = 0;
+                for (int i = 0; i + 1 < vivos; i += 2) {
+                    int ganador = jugar(ronda[i], ronda[i + 1], random);
+                    ganadas[ganador * rounds + numero]++;
+                    siguiente[pasan++] = ganador;
+                }
+                if ((vivos & 1) == 1) {
+                    int libre = ronda[vivos - 1];
+                    ganadas[libre * rounds + numero]++;
+                    siguiente[pasan++] = libre;
+                }
+                int[] aux = ronda;
+                ronda = siguiente;
+                siguiente = aux;
+                vivos = pasan;
+                numero++;
+            }
+        }
+        return ganadas;
+    }
+
+    private int jugar(int primero, int segundo, SplittableRandom random) {
+        return random.nextDouble() < winProbability[primero][segundo] ? primero : segundo;
+    }
+
+    private final class Tarea extends RecursiveTask<long[]> {
+
+        private final int cantidad;
+        private final SplittableRandom random;
+
+        Tarea(int cantidad, SplittableRandom random) {
+            this.cantidad = cantidad;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (cantidad <= SIMULATIONS_PER_TASK) {
+                return simular(cantidad, random);
+            }
+            int mitad = cantidad / 2;
+            // El split se hace antes del fork: cada mitad queda con un generador propio
+            Tarea izquierda = new Tarea(mitad, random.split());
+            Tarea derecha = new Tarea(cantidad - mitad, random);
+            izquierda.fork();
+            long[] total = derecha.compute();
+            long[] otra = izquierda.join();
+            for (int i = 0; i < total.length; i++) {
+                total[i] += otra[i];
+            }
+            return total;
+        }
+    }
+}
@@ -4,6 +4,12 @@
  * ✔ Usa JavaMailSender para enviar mails SMTP.
  * ✔ Permite enviar mensajes simples con asunto, destinatario y cuerpo.
  * ✔ Se puede invocar desde cualquier parte del sistema (inscripciones, alertas, etc.).
+ * ✔ Los envíos son @Async: quien llama no espera al servidor SMTP ni retiene su conexión
+ *   a la base mientras tanto. Con el perfil virtual corren en hilos virtuales.
+ * ✔ Como SMTPTransport sincroniza el envío (synchronized), un hilo virtual queda fijado a su
+ *   carrier mientras habla con el servidor; por eso los envíos simultáneos se limitan a
+ *   torneo.mail.max-concurrent, por debajo de la cantidad de carriers.
+ * ✔ Un error de envío se informa en el log y no llega a quien pidió el correo.
  */
 
 package com.torneo.api.services;
@@ -11,14 +17,21 @@ package com.torneo.api.services;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.concurrent.Semaphore;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
@@ -28,16 +41,40 @@ public class EmailService {
     @Autowired
     private TemplateEngine templateEngine;
 
+    private Semaphore envios;
+
+    @Value("${torneo.mail.max-concurrent:4}")
+    void setMaxConcurrent(int maxConcurrent) {
+        this.envios = new Semaphore(maxConcurrent, true);
+    }
+
+    @Async
     public void sendEmail(String to, String subject, String body) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom("torneos@tuapp.com"); // Podés personalizarlo
         message.setTo(to);
         message.setSubject(subject);
         message.setText(body);
-        mailSender.send(message);
+        enviar(to, () -> mailSender.send(message));
+    }
+
+    @Async
+    public void enviarCorreoRegistroHtml(String para, String nombreUsuario) {
+        enviar(para, () -> {
+            MimeMessage mensaje = armarRegistro(para, nombreUsuario);
+            mailSender.send(mensaje);
+        });
+    }
+
+    @Async
+    public void campeonEmail(String para) {
+        enviar(para, () -> {
+            MimeMessage mensaje = armarCampeon(para);
+            mailSender.send(mensaje);
+        });
     }
 
-    public void enviarCorreoRegistroHtml(String para, String nombreUsuario) throws MessagingException {
+    private MimeMessage armarRegistro(String para, String nombreUsuario) throws MessagingException {
         MimeMessage mensaje = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mensaje, true, "UTF-8");
 
@@ -54,10 +91,10 @@ public class EmailService {
 
         helper.setFrom("tu-correo@gmail.com");
 
-        mailSender.send(mensaje);
+        return mensaje;
     }
 
-    public void campeonEmail(String para) throws MessagingException
+    private MimeMessage armarCampeon(String para) throws MessagingException
     {
         MimeMessage mensaje = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mensaje, true, "UTF-8");
@@ -74,8 +111,27 @@ public class EmailService {
 
         helper.setFrom("tu-correo@gmail.com");
 
-        mailSender.send(mensaje);
+        return mensaje;
     }
 
+    private void enviar(String para, Envio envio) {
+        try {
+            envios.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            envio.run();
+        } catch (MessagingException | MailException e) {
+            log.warn("Error al enviar el email a {}: {}", para, e.getMessage());
+        } finally {
+            envios.release();
+        }
+    }
 
+    @FunctionalInterface
+    private interface Envio {
+        void run() throws MessagingException;
+    }
 }
@@ -0,0 +1,142 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.enums.ExportFormat;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
+import com.torneo.api.repository.projections.MatchSummary;
+import com.torneo.api.repository.projections.ResultSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Servicio que exporta resultados y partidos para análisis.
+ *
+ * ✔ Lee las filas con un cursor forward-only (Stream del repositorio con fetch size),
+ *   sin armar listas ni cargar entidades: la memoria usada no depende de la cantidad de filas.
+ * ✔ Escribe cada fila directamente en la respuesta como NDJSON o CSV.
+ * ✔ Vacía el buffer cada cierto número de filas para que el cliente empiece a recibir datos enseguida.
+ *
+ * Los métodos deben llamarse desde el hilo que escribe la respuesta: el Stream solo es
+ * válido mientras dura la transacción.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private static final List<String> RESULT_COLUMNS = List.of(
+            "id", "tournamentId", "winnerTeamId", "loserTeamId", "scoreWinnerTeam", "scoreLoserTeam");
+
+    private static final List<String> MATCH_COLUMNS = List.of(
+            "id", "tournamentName", "firstTeamName", "secondTeamName", "firstTeamScore", "secondTeamScore", "status");
+
+    private final ResultRepository resultRepository;
+    private final MatchRepository matchRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportResults(Long tournamentId, LocalDate from, LocalDate to,
+                              ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ResultSummary> filas = resultRepository.streamForExport(tournamentId, from, to)) {
+            return write(filas.iterator(), RESULT_COLUMNS, r -> new Object[]{
+                    r.getId(), r.getTournamentId(), r.getWinnerTeamId(), r.getLoserTeamId(),
+                    r.getScoreWinnerTeam(), r.getScoreLoserTeam()
+            }, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportMatches(Long tournamentId, LocalDate from, LocalDate to,
+                              ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<MatchSummary> filas = matchRepository.streamForExport(tournamentId, from, to)) {
+            return write(filas.iterator(), MATCH_COLUMNS, m -> new Object[]{
+                    m.getId(), m.getTournamentName(), m.getFirstTeamName(), m.getSecondTeamName(),
+                    m.getFirstTeamScore(), m.getSecondTeamScore(), m.getStatus()
+            }, format, out);
+        }
+    }
+
+    private <T> long write(Iterator<T> filas, List<String> columnas, Function<T, Object[]> valores,
+                           ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        long count = format == ExportFormat.CSV
+                ? writeCsv(filas, columnas, valores, writer)
+                : writeNdjson(filas, columnas, valores, writer);
+        writer.flush();
+        return count;
+    }
+
+    private <T> long writeNdjson(Iterator<T> filas, List<String> columnas, Function<T, Object[]> valores,
+                                 Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (filas.hasNext()) {
+            Object[] fila = valores.apply(filas.next());
+            generator.writeStartObject();
+            for (int i = 0; i < columnas.size(); i++) {
+                generator.writeObjectField(columnas.get(i), fila[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> filas, List<String> columnas, Function<T, Object[]> valores,
+                              Writer writer) throws IOException {
+        writer.write(String.join(",", columnas));
+        writer.write('\n');
+        writer.flush();
+        long count = 0;
+        while (filas.hasNext()) {
+            Object[] fila = valores.apply(filas.next());
+            for (int i = 0; i < fila.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, fila[i]);
+            }
+            writer.write('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    // RFC 4180: se entrecomilla solo si el valor contiene separador, comillas o saltos de línea
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,160 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.exceptions.UnprocessableException;
+import com.torneo.api.models.IdempotencyKey;
+import com.torneo.api.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servicio que da soporte a la cabecera `Idempotency-Key` en las escrituras.
+ *
+ * ✔ Un reintento con la misma clave y los mismos datos devuelve la respuesta original
+ *   sin volver a ejecutar la escritura.
+ * ✔ Las claves son de cada usuario autenticado: la misma clave enviada por otro usuario es
+ *   otra clave, y nunca devuelve ni delata la respuesta ajena.
+ * ✔ Reusar la clave con otros datos es un error.
+ * ✔ Las respuestas recientes se guardan en memoria (LRU acotado); el resto se busca en
+ *   la tabla idempotency_keys, que se limpia cada hora.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Duration RETENCION = Duration.ofHours(24);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+
+    // ReentrantLock y no synchronized: con hilos virtuales un monitor fija el hilo a su carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, IdempotencyKey> recientes = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, IdempotencyKey> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Busca una respuesta ya guardada para la clave. Devuelve vacío si la clave es nueva
+     * o ya venció; lanza excepción si la clave se usó con otros datos.
+     */
+    public <T> Optional<T> find(String scope, String key, Object request, Class<T> responseType) {
+        String id = id(scope, key);
+        IdempotencyKey guardada;
+        lock.lock();
+        try {
+            guardada = recientes.get(id);
+        } finally {
+            lock.unlock();
+        }
+        if (guardada == null) {
+            guardada = DataSourceRouting.onPrimary(() -> idempotencyKeyRepository.findById(id)).orElse(null);
+        }
+        if (guardada == null || guardada.getCreatedAt().isBefore(LocalDateTime.now().minus(RETENCION))) {
+            return Optional.empty();
+        }
+        if (!guardada.getRequestHash().equals(fingerprint(request))) {
+            throw new UnprocessableException("La Idempotency-Key ya se usó con otros datos.");
+        }
+        remember(guardada);
+        try {
+            return Optional.of(objectMapper.readValue(guardada.getResponseBody(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo leer la respuesta guardada", e);
+        }
+    }
+
+    /**
+     * Guarda la respuesta de la escritura. Debe llamarse dentro de la misma transacción
+     * que la escritura; la copia en memoria se agrega recién después del commit.
+     */
+    public void store(String scope, String key, Object request, Object response) {
+        IdempotencyKey nueva;
+        try {
+            nueva = IdempotencyKey.builder()
+                    .id(id(scope, key))
+                    .requestHash(fingerprint(request))
+                    .responseBody(objectMapper.writeValueAsString(response))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo guardar la respuesta", e);
+        }
+        idempotencyKeyRepository.save(nueva);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(nueva);
+                }
+            });
+        } else {
+            remember(nueva);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeExpired() {
+        idempotencyKeyRepository.deleteOlderThan(LocalDateTime.now().minus(RETENCION));
+    }
+
+    private void remember(IdempotencyKey clave) {
+        lock.lock();
+        try {
+            recientes.put(clave.getId(), clave);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // alcance:dueño:clave, con el dueño como hash del usuario para que el ID no pase de 200 caracteres
+    private static String id(String scope, String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("La Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres.");
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("La Idempotency-Key necesita un usuario autenticado");
+        }
+        return scope + ":" + sha256(authentication.getName().getBytes(StandardCharsets.UTF_8)) + ":" + key;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo calcular la huella de la petición", e);
+        }
+    }
+
+    private static String sha256(byte[] datos) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(datos));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
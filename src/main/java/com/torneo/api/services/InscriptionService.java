@@ -1,8 +1,14 @@
 package com.torneo.api.services;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.InscriptionRequestDTO;
 import com.torneo.api.dto.InscriptionResponseDTO;
+import com.torneo.api.dto.TournamentEventPayload;
 import com.torneo.api.enums.GamesState;
+import com.torneo.api.enums.PartitionedTable;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.ConflictException;
+import com.torneo.api.exceptions.ForbiddenException;
 import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.Inscription;
 import com.torneo.api.models.TeamEntity;
@@ -14,11 +20,11 @@ import com.torneo.api.repository.TeamRepository;
 import com.torneo.api.repository.TeamXPlayerRepository;
 import com.torneo.api.repository.TournamentRepository;
 import com.torneo.api.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,10 +35,10 @@ import java.util.stream.Collectors;
  * ✔ Valida que el equipo y el torneo existan.
  * ✔ Verifica que el usuario que intenta inscribir sea parte del equipo (nuevo).
  * ✔ Evita inscripciones duplicadas al mismo torneo.
- * ✔ Controla que el cupo máximo no haya sido alcanzado.
+ * ✔ Ocupa un lugar del cupo con un UPDATE condicional: sin lugares, responde 409 sin esperar.
  * ✔ Si se completa el cupo, cambia el estado del torneo a ACTIVO.
- * ✔ Genera los partidos iniciales mediante el PhaseService.
- * ✔ Envía un email a cada jugador cuando el torneo comienza.
+ * ✔ Genera los partidos iniciales mediante el PhaseService, en la misma transacción.
+ * ✔ Envía un email a cada jugador cuando el torneo comienza (después del commit).
  *
  * Esta clase es clave para el flujo de inscripción, ya que asegura la integridad
  * y lógica de negocio antes de permitir registrar un equipo en un torneo.
@@ -49,10 +55,15 @@ public class InscriptionService {
     private final TeamXPlayerService teamXPlayerService;
     private final TeamXPlayerRepository teamXPlayerRepository;
     private final UserRepository userRepository;
+    private final TournamentService tournamentService;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentEventService eventService;
+    private final TournamentPartitionService partitionService;
 
+    @Transactional
     public InscriptionResponseDTO registerInscription(InscriptionRequestDTO dto) {
-        // Validar existencia del equipo
-        TeamEntity team = teamRepository.findById(dto.getTeamId())
+        // Validar existencia del equipo (lock compartido: el equipo no se borra hasta el commit)
+        TeamEntity team = teamRepository.findByIdForShare(dto.getTeamId())
                 .orElseThrow(() -> new NotFoundException("Equipo no encontrado"));
 
         // Validar existencia del torneo
@@ -61,7 +72,7 @@ public class InscriptionService {
 
         // Validar estado del torneo
         if (!tournament.getState().equals(GamesState.INSCRIPTION)) {
-            throw new IllegalStateException("El torneo no está disponible para inscripciones.");
+            throw new ConflictException("El torneo no está disponible para inscripciones.");
         }
 
         // Obtener el usuario autenticado
@@ -73,19 +84,20 @@ public class InscriptionService {
         // Verificar si el usuario pertenece al equipo
         List<TeamXPlayer> asociaciones = teamXPlayerRepository.findByUser_IdAndTeamEntity_Id(currentUser.getId(), dto.getTeamId());
         if (asociaciones.isEmpty()) {
-            throw new IllegalArgumentException("No pertenecés al equipo que estás intentando inscribir.");
+            throw new ForbiddenException("No pertenecés al equipo que estás intentando inscribir.");
         }
 
-        // Validar si ya está inscripto
+        // Validar si ya está inscripto (la clave única de inscriptions cubre la carrera entre dos pedidos)
         if (inscriptionRepository.findByTeam_IdAndTournament_Id(team.getId(), tournament.getId()).isPresent()) {
-            throw new IllegalArgumentException("Este equipo ya está inscripto en este torneo.");
+            throw new ConflictException("Este equipo ya está inscripto en este torneo.");
         }
 
-        // Validar cupo disponible
-        List<Inscription> inscripcionesExistentes = inscriptionRepository.findByTournamentId(tournament.getId());
-        if (inscripcionesExistentes.size() >= tournament.getMaxTeams()) {
-            throw new IllegalStateException("El cupo del torneo ya está completo.");
+        // Ocupar un lugar del cupo: un solo UPDATE condicional que responde en el acto si no quedan
+        // lugares o el torneo ya cerró la inscripción, en vez de esperar para contar
+        if (tournamentRepository.reserveSlot(tournament.getId()) == 0) {
+            throw new ConflictException("El cupo del torneo ya está completo o la inscripción está cerrada.");
         }
+        int inscriptos = tournamentRepository.findInscribedById(tournament.getId()).orElseThrow();
 
         // Guardar la inscripción
         Inscription nueva = Inscription.builder()
@@ -94,50 +106,70 @@ public class InscriptionService {
                 .build();
 
         inscriptionRepository.save(nueva);
-
-        // Verificar si se completó el cupo con esta inscripción
-        List<Inscription> inscripcionesTotales = inscriptionRepository.findByTournamentId(tournament.getId());
-        if (inscripcionesTotales.size() == tournament.getMaxTeams()) {
-            // Cambiar el estado a ACTIVO
-            tournament.setState(GamesState.ACTIVE);
-            tournamentRepository.save(tournament);
+        eventService.append(tournament.getId(), TournamentEventType.TEAM_INSCRIBED, TournamentEventPayload.builder()
+                .teamId(team.getId())
+                .teamName(team.getName())
+                .build());
+        tournamentVersions.bump(tournament.getId());
+
+        // Si esta inscripción completa el cupo, el torneo pasa a ACTIVO y se generan los partidos
+        // en la misma transacción: si algo falla, la inscripción tampoco queda
+        if (inscriptos == tournament.getMaxTeams()) {
+            if (!tournamentService.transition(tournament.getId(), GamesState.INSCRIPTION, GamesState.ACTIVE)) {
+                throw new ConflictException("El torneo no está disponible para inscripciones.");
+            }
 
             // Obtener todos los equipos
-            List<TeamEntity> equipos = inscripcionesTotales.stream()
+            List<TeamEntity> equipos = inscriptionRepository.findByTournamentId(tournament.getId()).stream()
                     .map(Inscription::getTeam)
                     .collect(Collectors.toList());
 
             // Generar los partidos iniciales
             phaseService.generateInitialPhase(tournament, equipos);
 
-            // Enviar correo a los jugadores de cada equipo
-            for (TeamEntity equipo : equipos) {
-                List<TeamXPlayer> jugadores = teamXPlayerService.getByTeamId(equipo.getId());
-                for (TeamXPlayer txp : jugadores) {
-                    emailService.sendEmail(
-                            txp.getUser().getEmail(),
-                            "¡Comienzan los partidos!",
-                            "Ya están definidos los partidos del torneo: " + tournament.getName()
-                    );
-                }
-            }
+            // Enviar correo a los jugadores de cada equipo, recién con el torneo activo confirmado
+            List<String> destinatarios = equipos.stream()
+                    .flatMap(equipo -> teamXPlayerService.getByTeamId(equipo.getId()).stream())
+                    .map(txp -> txp.getUser().getEmail())
+                    .toList();
+            String nombreTorneo = tournament.getName();
+            AfterCommit.run(() -> destinatarios.forEach(email -> emailService.sendEmail(
+                    email,
+                    "¡Comienzan los partidos!",
+                    "Ya están definidos los partidos del torneo: " + nombreTorneo
+            )));
         }
 
         return mapToDTO(nueva);
     }
 
-    public List<InscriptionResponseDTO> getAll() {
-        return inscriptionRepository.findAll().stream()
-                .map(this::mapToDTO)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<InscriptionResponseDTO> getAll(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<Long> ids = partitionService.pageIds(PartitionedTable.INSCRIPTIONS,
+                CursorPageDTO.decodeCursor(cursor), pageSize + 1);
+        if (ids.isEmpty()) {
+            return CursorPageDTO.of(List.of(), pageSize, InscriptionResponseDTO::getId);
+        }
+        List<InscriptionResponseDTO> filas = inscriptionRepository.findSummariesByIdIn(ids).stream()
+                .map(i -> InscriptionResponseDTO.builder()
+                        .id(i.getId())
+                        .teamID(i.getTeamId().intValue())
+                        .teamName(i.getTeamName())
+                        .tournamentName(i.getTournamentName())
+                        .build())
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(filas, pageSize, InscriptionResponseDTO::getId);
     }
 
+    @Transactional(readOnly = true)
     public List<InscriptionResponseDTO> getByTournament(Long tournamentId) {
         return inscriptionRepository.findByTournamentId(tournamentId).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<InscriptionResponseDTO> getByTeam(Long teamId) {
         return inscriptionRepository.findByTeamId(teamId).stream()
                 .map(this::mapToDTO)
@@ -146,19 +178,26 @@ public class InscriptionService {
 
     public Inscription getInscriptionByTeamAndTournament(Long teamId, Long tournamentId) {
         return inscriptionRepository.findByTeam_IdAndTournament_Id(teamId, tournamentId)
-                .orElseThrow(() -> new EntityNotFoundException("Inscripción no encontrada"));
+                .orElseThrow(() -> new NotFoundException("Inscripción no encontrada"));
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!inscriptionRepository.existsById(id)) {
-            throw new NotFoundException("Inscripción no encontrada");
-        }
-        inscriptionRepository.deleteById(id);
+        Inscription inscription = inscriptionRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Inscripción no encontrada"));
+        // La baja y su INSCRIPTION_DELETED se confirman juntas
+        eventService.lockTournaments(List.of(inscription.getTournament().getId()));
+        inscriptionRepository.delete(inscription);
+        tournamentRepository.releaseSlot(inscription.getTournament().getId());
+        eventService.append(inscription.getTournament().getId(), TournamentEventType.INSCRIPTION_DELETED,
+                TournamentEventPayload.builder().teamId(inscription.getTeam().getId()).build());
+        tournamentVersions.bump(inscription.getTournament().getId());
     }
 
     private InscriptionResponseDTO mapToDTO(Inscription i) {
         return InscriptionResponseDTO.builder()
                 .id(i.getId())
+                .teamID(i.getTeam().getId().intValue())
                 .teamName(i.getTeam().getName())
                 .tournamentName(i.getTournament().getName())
                 .build();
@@ -0,0 +1,324 @@
+package com.torneo.api.services;
+
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.MatchEventAckDTO;
+import com.torneo.api.dto.MatchEventRequestDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.exceptions.TooManyRequestsException;
+import com.torneo.api.models.Match;
+import com.torneo.api.repository.MatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servicio que recibe los eventos en vivo de los partidos (bajas, rondas, objetivos) y los guarda por lotes.
+ *
+ * ✔ Cada partido tiene su buffer circular sin locks (MatchEventRingBuffer): la petición del
+ *   webhook solo encola y responde 202; no toca la base. El 202 solo dice que el lote quedó en
+ *   memoria: si la instancia se cae antes del flush, esos eventos se pierden.
+ * ✔ Cada torneo.match-events.flush-interval-ms un único hilo vacía los buffers: por partido,
+ *   una transacción con un INSERT por lotes en match_events y un UPDATE relativo del marcador
+ *   (first_team_score + ?, second_team_score + ?) que sube la versión del partido. Un PUT que
+ *   leyó el partido antes del flush falla por bloqueo optimista (409) en vez de pisar esos puntos;
+ *   un PUT posterior sí reemplaza el marcador guardado (es una corrección explícita) y los eventos
+ *   que sigan en el buffer se suman sobre el valor nuevo. Si el marcador cambió se registra
+ *   SCORE_UPDATED en el historial del torneo y se sube su versión.
+ * ✔ Contrapresión: si la base no da abasto, los eventos no se liberan del buffer hasta guardarse;
+ *   con el buffer lleno el lote se rechaza con 429 y Retry-After, y el servidor de juego reintenta.
+ * ✔ Si el partido se borra, sus eventos pendientes se descartan; si cambia de torneo, se guardan
+ *   en el torneo nuevo.
+ * ✔ Los buffers sin eventos ni uso durante torneo.match-events.idle-timeout se descartan.
+ * ✔ Métricas: match.events.persisted, match.events.rejected, match.events.discarded,
+ *   match.events.buffered y match.events.flush.
+ */
+@Slf4j
+@Service
+public class MatchEventIngestService {
+
+    private static final String INSERT = """
+            INSERT INTO match_events (tournament_id, match_id, type, team, points, detail, occurred_at, received_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String SUMAR_MARCADOR = """
+            UPDATE matches SET first_team_score = first_team_score + ?, second_team_score = second_team_score + ?,
+                               version = version + 1
+            WHERE id = ? AND tournament_id = ?""";
+
+    private final MatchRepository matchRepository;
+    private final TournamentEventService eventService;
+    private final TournamentVersions tournamentVersions;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final int capacity;
+    private final Duration idleTimeout;
+    private final Duration retryAfter;
+
+    private final Map<Long, Partido> partidos = new ConcurrentHashMap<>();
+    // Un solo consumidor por buffer: el flush programado y el del apagado no se pisan
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final MatchEventRingBuffer.Batch lote;
+
+    private final Counter persistidos;
+    private final Counter rechazados;
+    private final Counter descartados;
+    private final Timer flushTimer;
+
+    public MatchEventIngestService(MatchRepository matchRepository,
+                                   TournamentEventService eventService,
+                                   TournamentVersions tournamentVersions,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${torneo.match-events.capacity:16384}") int capacity,
+                                   @Value("${torneo.match-events.batch-size:1000}") int batchSize,
+                                   @Value("${torneo.match-events.idle-timeout:10m}") Duration idleTimeout,
+                                   @Value("${torneo.match-events.retry-after:1s}") Duration retryAfter) {
+        this.matchRepository = matchRepository;
+        this.eventService = eventService;
+        this.tournamentVersions = tournamentVersions;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.idleTimeout = idleTimeout;
+        this.retryAfter = retryAfter;
+        this.lote = new MatchEventRingBuffer.Batch(batchSize);
+
+        this.persistidos = Counter.builder("match.events.persisted")
+                .description("Eventos en vivo guardados en match_events")
+                .register(meterRegistry);
+        this.rechazados = Counter.builder("match.events.rejected")
+                .description("Eventos en vivo rechazados con 429 por buffer lleno")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("match.events.discarded")
+                .description("Eventos en vivo descartados porque el partido se borró")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("match.events.flush")
+                .description("Tiempo de guardar un lote de eventos en vivo de un partido")
+                .register(meterRegistry);
+        Gauge.builder("match.events.buffered", partidos,
+                        m -> m.values().stream().mapToLong(p -> p.buffer.pending()).sum())
+                .description("Eventos en vivo en memoria que todavía no se guardaron")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encola un lote de eventos del partido. El lote entra entero o se rechaza entero.
+     *
+     * @throws NotFoundException si el partido no existe
+     * @throws TooManyRequestsException si el buffer del partido no tiene lugar para el lote
+     */
+    public MatchEventAckDTO ingest(Long matchId, List<MatchEventRequestDTO> events) {
+        Partido partido = abrir(matchId);
+        try {
+            if (!partido.buffer.offer(events, LocalDateTime.now())) {
+                rechazados.increment(events.size());
+                throw new TooManyRequestsException(
+                        "El partido tiene demasiados eventos sin guardar; reintentar en unos segundos", retryAfter);
+            }
+            partido.ultimoUso = System.nanoTime();
+        } finally {
+            partido.escritores.decrementAndGet();
+        }
+        return MatchEventAckDTO.builder()
+                .matchId(matchId)
+                .accepted(events.size())
+                .pending(partido.buffer.pending())
+                .build();
+    }
+
+    // Devuelve el partido con un escritor registrado: el flush no lo descarta mientras tanto
+    private Partido abrir(Long matchId) {
+        Partido existente = partidos.computeIfPresent(matchId, (id, p) -> {
+            p.escritores.incrementAndGet();
+            return p;
+        });
+        if (existente != null) {
+            return existente;
+        }
+
+        // Un partido recién creado puede no haber llegado todavía a la réplica
+        Match match = DataSourceRouting.onPrimary(() -> matchRepository.findById(matchId))
+                .orElseThrow(() -> new NotFoundException("Partido no encontrado"));
+        Long tournamentId = match.getTournament().getId();
+        return partidos.compute(matchId, (id, p) -> {
+            Partido partido = p != null ? p : new Partido(tournamentId, new MatchEventRingBuffer(capacity));
+            partido.escritores.incrementAndGet();
+            return partido;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${torneo.match-events.flush-interval-ms:100}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            long ahora = System.nanoTime();
+            for (Map.Entry<Long, Partido> entrada : partidos.entrySet()) {
+                vaciar(entrada.getKey(), entrada.getValue());
+            }
+            // Con compute, descartar y registrar un escritor (abrir) no se pisan
+            for (Long matchId : partidos.keySet()) {
+                partidos.computeIfPresent(matchId,
+                        (id, p) -> p.descartable(ahora, idleTimeout.toNanos()) ? null : p);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Guarda de a un lote hasta vaciar el buffer o hasta que un guardado falle
+    private void vaciar(Long matchId, Partido partido) {
+        int n;
+        while ((n = partido.buffer.peek(lote)) > 0) {
+            int cantidad = n;
+            Resultado resultado;
+            try {
+                resultado = flushTimer.record(() -> tx.execute(status -> guardar(matchId, partido, cantidad)));
+            } catch (RuntimeException e) {
+                if (!partido.fallando) {
+                    log.warn("No se pudieron guardar {} eventos del partido {}; se reintenta en el próximo flush",
+                            cantidad, matchId, e);
+                    partido.fallando = true;
+                }
+                return;
+            }
+            if (partido.fallando) {
+                log.info("Se volvieron a guardar los eventos del partido {}", matchId);
+                partido.fallando = false;
+            }
+
+            switch (resultado) {
+                case GUARDADO -> {
+                    partido.buffer.release(cantidad);
+                    persistidos.increment(cantidad);
+                }
+                case PARTIDO_BORRADO -> {
+                    log.warn("Se descartan {} eventos del partido {}: el partido ya no existe", cantidad, matchId);
+                    partido.buffer.release(cantidad);
+                    descartados.increment(cantidad);
+                }
+                // El partido cambió de torneo: el próximo intento usa el torneo nuevo
+                case CAMBIO_DE_TORNEO -> {
+                }
+            }
+        }
+    }
+
+    private Resultado guardar(Long matchId, Partido partido, int n) {
+        Long tournamentId = partido.tournamentId;
+        int sumaPrimero = 0;
+        int sumaSegundo = 0;
+        for (int i = 0; i < n; i++) {
+            if (lote.teams[i] == 1) {
+                sumaPrimero += lote.points[i];
+            } else if (lote.teams[i] == 2) {
+                sumaSegundo += lote.points[i];
+            }
+        }
+
+        // El torneo se toma antes del UPDATE, igual que un PUT del partido: tomar la fila primero y
+        // el lock después puede trabarse contra quien ya tiene el lock y espera la fila
+        eventService.lockTournaments(List.of(tournamentId));
+
+        // Aunque no sume puntos, el UPDATE confirma que el partido sigue en el torneo
+        if (jdbcTemplate.update(SUMAR_MARCADOR, sumaPrimero, sumaSegundo, matchId, tournamentId) == 0) {
+            List<Long> torneo = jdbcTemplate.queryForList(
+                    "SELECT tournament_id FROM matches WHERE id = ?", Long.class, matchId);
+            if (torneo.isEmpty()) {
+                return Resultado.PARTIDO_BORRADO;
+            }
+            partido.tournamentId = torneo.get(0);
+            return Resultado.CAMBIO_DE_TORNEO;
+        }
+
+        List<Object[]> filas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            filas.add(new Object[]{
+                    tournamentId, matchId, lote.types[i].name(), lote.teams[i], lote.points[i], lote.details[i],
+                    Timestamp.valueOf(lote.occurredAt[i]), Timestamp.valueOf(lote.receivedAt[i])});
+        }
+        jdbcTemplate.batchUpdate(INSERT, filas);
+
+        if (sumaPrimero != 0 || sumaSegundo != 0) {
+            TournamentEventPayload marcador = jdbcTemplate.queryForObject(
+                    "SELECT first_team_score, second_team_score, status FROM matches WHERE id = ?",
+                    (rs, row) -> TournamentEventPayload.builder()
+                            .matchId(matchId)
+                            .firstTeamScore(rs.getInt(1))
+                            .secondTeamScore(rs.getInt(2))
+                            .status(rs.getString(3))
+                            .build(),
+                    matchId);
+            eventService.append(tournamentId, TournamentEventType.SCORE_UPDATED, marcador);
+            tournamentVersions.bump(tournamentId);
+        }
+        return Resultado.GUARDADO;
+    }
+
+    /**
+     * Al apagar, guarda lo que quedó en los buffers (el webhook ya dejó de recibir peticiones).
+     */
+    @PreDestroy
+    void shutdown() {
+        flushLock.lock();
+        try {
+            for (Map.Entry<Long, Partido> entrada : partidos.entrySet()) {
+                vaciar(entrada.getKey(), entrada.getValue());
+            }
+            long pendientes = partidos.values().stream().mapToLong(p -> p.buffer.pending()).sum();
+            if (pendientes > 0) {
+                log.warn("Se perdieron {} eventos en vivo sin guardar al apagar", pendientes);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private enum Resultado {
+        GUARDADO,
+        PARTIDO_BORRADO,
+        CAMBIO_DE_TORNEO
+    }
+
+    private static final class Partido {
+
+        private final MatchEventRingBuffer buffer;
+        // Peticiones que están encolando en este momento
+        private final AtomicInteger escritores = new AtomicInteger();
+        private volatile Long tournamentId;
+        private volatile long ultimoUso = System.nanoTime();
+        // Solo lo usa el hilo del flush
+        private boolean fallando;
+
+        private Partido(Long tournamentId, MatchEventRingBuffer buffer) {
+            this.tournamentId = tournamentId;
+            this.buffer = buffer;
+        }
+
+        private boolean descartable(long ahora, long idleNanos) {
+            return escritores.get() == 0 && buffer.pending() == 0 && ahora - ultimoUso > idleNanos;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.torneo.api.services;
+
+import com.torneo.api.dto.MatchEventRequestDTO;
+import com.torneo.api.enums.MatchEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular acotado y sin locks con los eventos en vivo de un partido que todavía no se guardaron.
+ *
+ * ✔ Muchos productores (las peticiones del webhook) y un solo consumidor (el flush de
+ *   MatchEventIngestService). Es el esquema de Vyukov: cada posición tiene un número de secuencia
+ *   que dice si está libre para la vuelta actual o si ya tiene un evento publicado.
+ * ✔ Un lote se reserva entero con un solo CAS sobre tail: si la última posición que necesita
+ *   no está libre, el buffer está lleno y el lote se rechaza sin escribir nada.
+ * ✔ Los eventos se guardan en arreglos paralelos por posición: encolar no crea objetos.
+ * ✔ El consumidor copia los eventos sin liberarlos (peek) y los libera recién cuando se
+ *   guardaron (release): si el guardado falla, el próximo flush vuelve a intentar los mismos.
+ */
+final class MatchEventRingBuffer {
+
+    private static final MatchEventType[] TYPES = MatchEventType.values();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequence;
+    private final AtomicLong tail = new AtomicLong();
+    // Solo lo escribe el consumidor; volatile para que pending() lo vea desde otros hilos
+    private volatile long head;
+
+    private final byte[] types;
+    private final byte[] teams;
+    private final int[] points;
+    private final LocalDateTime[] occurredAt;
+    private final LocalDateTime[] receivedAt;
+    private final String[] details;
+
+    MatchEventRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad del buffer debe ser potencia de 2: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequence = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequence.set(i, i);
+        }
+        this.types = new byte[capacity];
+        this.teams = new byte[capacity];
+        this.points = new int[capacity];
+        this.occurredAt = new LocalDateTime[capacity];
+        this.receivedAt = new LocalDateTime[capacity];
+        this.details = new String[capacity];
+    }
+
+    /**
+     * Encola el lote entero o nada.
+     *
+     * @return false si no hay lugar para todo el lote
+     */
+    boolean offer(List<MatchEventRequestDTO> events, LocalDateTime received) {
+        int n = events.size();
+        if (n == 0) {
+            return true;
+        }
+        if (n > capacity) {
+            return false;
+        }
+
+        long pos;
+        while (true) {
+            pos = tail.get();
+            long ultima = pos + n - 1;
+            long dif = sequence.getAcquire(index(ultima)) - ultima;
+            if (dif < 0) {
+                // La última posición todavía tiene un evento de la vuelta anterior
+                return false;
+            }
+            if (dif == 0 && tail.compareAndSet(pos, pos + n)) {
+                break;
+            }
+            // dif > 0: otro productor ya reservó esa posición; se relee tail
+        }
+
+        for (int i = 0; i < n; i++) {
+            MatchEventRequestDTO evento = events.get(i);
+            long p = pos + i;
+            int idx = index(p);
+            types[idx] = (byte) evento.getType().ordinal();
+            teams[idx] = (byte) evento.getTeam();
+            points[idx] = evento.getPoints();
+            occurredAt[idx] = evento.getOccurredAt() != null ? evento.getOccurredAt() : received;
+            receivedAt[idx] = received;
+            details[idx] = evento.getDetail();
+            sequence.setRelease(idx, p + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Copia al lote los eventos publicados desde head, sin liberarlos (solo el consumidor).
+     * Se detiene en el primer evento que un productor reservó pero todavía no terminó de escribir.
+     *
+     * @return cantidad de eventos copiados
+     */
+    int peek(Batch batch) {
+        long desde = head;
+        int n = 0;
+        while (n < batch.size()) {
+            long p = desde + n;
+            int idx = index(p);
+            if (sequence.getAcquire(idx) != p + 1) {
+                break;
+            }
+            batch.types[n] = TYPES[types[idx]];
+            batch.teams[n] = teams[idx];
+            batch.points[n] = points[idx];
+            batch.occurredAt[n] = occurredAt[idx];
+            batch.receivedAt[n] = receivedAt[idx];
+            batch.details[n] = details[idx];
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Libera los primeros n eventos ya guardados (solo el consumidor).
+     */
+    void release(int n) {
+        long desde = head;
+        for (int i = 0; i < n; i++) {
+            long p = desde + i;
+            int idx = index(p);
+            occurredAt[idx] = null;
+            receivedAt[idx] = null;
+            details[idx] = null;
+            sequence.setRelease(idx, p + capacity);
+        }
+        head = desde + n;
+    }
+
+    /**
+     * Eventos reservados que todavía no se liberaron (aproximado si hay productores en curso).
+     */
+    long pending() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+
+    /**
+     * Lote reutilizable donde el consumidor copia los eventos a guardar.
+     */
+    static final class Batch {
+
+        final MatchEventType[] types;
+        final byte[] teams;
+        final int[] points;
+        final LocalDateTime[] occurredAt;
+        final LocalDateTime[] receivedAt;
+        final String[] details;
+
+        Batch(int size) {
+            this.types = new MatchEventType[size];
+            this.teams = new byte[size];
+            this.points = new int[size];
+            this.occurredAt = new LocalDateTime[size];
+            this.receivedAt = new LocalDateTime[size];
+            this.details = new String[size];
+        }
+
+        int size() {
+            return teams.length;
+        }
+    }
+}
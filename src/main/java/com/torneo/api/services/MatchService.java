@@ -8,8 +8,12 @@
 
 package com.torneo.api.services;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.MatchRequestDTO;
 import com.torneo.api.dto.MatchResponseDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.PartitionedTable;
+import com.torneo.api.enums.TournamentEventType;
 import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.Match;
 import com.torneo.api.models.TeamEntity;
@@ -19,6 +23,7 @@ import com.torneo.api.repository.TeamRepository;
 import com.torneo.api.repository.TournamentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,15 +35,22 @@ public class MatchService {
     private final MatchRepository matchRepository;
     private final TournamentRepository tournamentRepository;
     private final TeamRepository teamRepository;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentEventService eventService;
+    private final TournamentPartitionService partitionService;
 
+    @Transactional
     public MatchResponseDTO createMatch(MatchRequestDTO dto) {
+        // El partido y su MATCH_SCHEDULED se confirman juntos, con el torneo tomado desde antes de escribir
+        eventService.lockTournaments(List.of(dto.getTournamentId()));
         Tournament tournament = tournamentRepository.findById(dto.getTournamentId())
                 .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
 
-        TeamEntity firstTeam = teamRepository.findById(dto.getFirstTeamId())
+        // Lock compartido sobre los equipos: ninguno se borra antes de que el partido se confirme
+        TeamEntity firstTeam = teamRepository.findByIdForShare(dto.getFirstTeamId())
                 .orElseThrow(() -> new NotFoundException("Primer equipo no encontrado"));
 
-        TeamEntity secondTeam = teamRepository.findById(dto.getSecondTeamId())
+        TeamEntity secondTeam = teamRepository.findByIdForShare(dto.getSecondTeamId())
                 .orElseThrow(() -> new NotFoundException("Segundo equipo no encontrado"));
 
         Match match = Match.builder()
@@ -50,15 +62,23 @@ public class MatchService {
                 .status(dto.getStatus())
                 .build();
 
-        return mapToDTO(matchRepository.save(match));
+        Match guardado = matchRepository.save(match);
+        eventService.append(tournament.getId(), TournamentEventType.MATCH_SCHEDULED, scheduledPayload(guardado));
+        MatchResponseDTO creado = mapToDTO(guardado);
+        tournamentVersions.bump(tournament.getId());
+        return creado;
     }
 
+    @Transactional
     public MatchResponseDTO updateMatch(Long id, MatchRequestDTO dto) {
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Partido no encontrado"));
+        Long torneoAnterior = match.getTournament().getId();
 
         Tournament tournament = tournamentRepository.findById(dto.getTournamentId())
                 .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+        // Puede tocar dos torneos: se toman juntos y en orden antes de escribir
+        eventService.lockTournaments(List.of(torneoAnterior, tournament.getId()));
 
         TeamEntity firstTeam = teamRepository.findById(dto.getFirstTeamId())
                 .orElseThrow(() -> new NotFoundException("Primer equipo no encontrado"));
@@ -73,34 +93,89 @@ public class MatchService {
         match.setSecondTeamScore(dto.getSecondTeamScore());
         match.setStatus(dto.getStatus());
 
-        return mapToDTO(matchRepository.save(match));
+        MatchResponseDTO actualizado = mapToDTO(matchRepository.save(match));
+        if (torneoAnterior.equals(tournament.getId())) {
+            eventService.append(tournament.getId(), TournamentEventType.SCORE_UPDATED, TournamentEventPayload.builder()
+                    .matchId(id)
+                    .firstTeamScore(match.getFirstTeamScore())
+                    .secondTeamScore(match.getSecondTeamScore())
+                    .status(match.getStatus())
+                    .build());
+        } else {
+            // El partido cambió de torneo: para el anterior desaparece y en el nuevo se programa
+            eventService.append(torneoAnterior, TournamentEventType.MATCH_DELETED,
+                    TournamentEventPayload.builder().matchId(id).build());
+            eventService.append(tournament.getId(), TournamentEventType.MATCH_SCHEDULED, scheduledPayload(match));
+        }
+        tournamentVersions.bump(torneoAnterior);
+        tournamentVersions.bump(tournament.getId());
+        return actualizado;
     }
 
+    @Transactional
     public void deleteMatch(Long id) {
-        if (!matchRepository.existsById(id)) {
-            throw new NotFoundException("Partido no encontrado");
-        }
-        matchRepository.deleteById(id);
+        Match match = matchRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Partido no encontrado"));
+        // La baja y su MATCH_DELETED se confirman juntas
+        eventService.lockTournaments(List.of(match.getTournament().getId()));
+        matchRepository.delete(match);
+        eventService.append(match.getTournament().getId(), TournamentEventType.MATCH_DELETED,
+                TournamentEventPayload.builder().matchId(id).build());
+        tournamentVersions.bump(match.getTournament().getId());
     }
 
-    public List<MatchResponseDTO> getAllMatches() {
-        return matchRepository.findAll().stream()
-                .map(this::mapToDTO)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MatchResponseDTO> getAllMatches(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<Long> ids = partitionService.pageIds(PartitionedTable.MATCHES,
+                CursorPageDTO.decodeCursor(cursor), pageSize + 1);
+        if (ids.isEmpty()) {
+            return CursorPageDTO.of(List.of(), pageSize, MatchResponseDTO::getId);
+        }
+        List<MatchResponseDTO> filas = matchRepository.findSummariesByIdIn(ids).stream()
+                .map(m -> MatchResponseDTO.builder()
+                        .id(m.getId())
+                        .tournamentName(m.getTournamentName())
+                        .firstTeamName(m.getFirstTeamName())
+                        .secondTeamName(m.getSecondTeamName())
+                        .firstTeamScore(m.getFirstTeamScore())
+                        .secondTeamScore(m.getSecondTeamScore())
+                        .status(m.getStatus())
+                        .build())
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(filas, pageSize, MatchResponseDTO::getId);
     }
 
+    @Transactional(readOnly = true)
     public List<MatchResponseDTO> getMatchesByTournament(Long tournamentId) {
         return matchRepository.findByTournamentId(tournamentId).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public MatchResponseDTO getMatchById(Long id) {
         return matchRepository.findById(id)
                 .map(this::mapToDTO)
                 .orElseThrow(() -> new NotFoundException("Partido no encontrado"));
     }
 
+    /**
+     * Datos del evento MATCH_SCHEDULED; también lo usa PhaseService al generar una fase.
+     */
+    static TournamentEventPayload scheduledPayload(Match match) {
+        return TournamentEventPayload.builder()
+                .matchId(match.getId())
+                .firstTeamId(match.getFirstTeam().getId())
+                .firstTeamName(match.getFirstTeam().getName())
+                .secondTeamId(match.getSecondTeam().getId())
+                .secondTeamName(match.getSecondTeam().getName())
+                .firstTeamScore(match.getFirstTeamScore())
+                .secondTeamScore(match.getSecondTeamScore())
+                .status(match.getStatus())
+                .build();
+    }
+
     private MatchResponseDTO mapToDTO(Match match) {
         return MatchResponseDTO.builder()
                 .id(match.getId())
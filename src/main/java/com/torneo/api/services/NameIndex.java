@@ -0,0 +1,267 @@
+package com.torneo.api.services;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Índice en memoria de nombres (equipos o usuarios) para autocompletar.
+ *
+ * ✔ Prefijo: un TreeMap ordenado por nombre normalizado; las primeras k claves del rango
+ *   [prefijo, prefijo + Character.MAX_VALUE) son la respuesta, en O(log n + k).
+ * ✔ Errores de tipeo: cada nombre se indexa por trigramas ("^va", "val", "alo"...). Los
+ *   candidatos que comparten suficientes trigramas con lo escrito se verifican con distancia
+ *   de edición contra el comienzo del nombre.
+ * ✔ Los trigramas demasiado frecuentes no se recorren: casi no filtran y son los que harían
+ *   crecer el tiempo con millones de nombres.
+ *
+ * La carga inicial es perezosa; las escrituras que llegan antes de cargar se ignoran
+ * porque la carga ya va a leer el dato confirmado.
+ */
+final class NameIndex {
+
+    /**
+     * Sugerencia encontrada: distance es 0 si el nombre empieza con lo escrito.
+     */
+    record Match(long id, String name, int distance) {
+    }
+
+    private static final char SEPARADOR = '\u0000';
+    private static final double MAX_FRECUENCIA_TRIGRAMA = 0.05;
+
+    private final Consumer<BiConsumer<Long, String>> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Todo lo que sigue se protege con lock
+    private boolean loaded;
+    private final TreeMap<String, Long> porNombre = new TreeMap<>();
+    private final Map<Long, String> nombres = new HashMap<>();
+    private final Map<String, Postings> trigramas = new HashMap<>();
+
+    /**
+     * @param loader recorre la tabla y entrega cada par (id, nombre); se llama una sola vez
+     */
+    NameIndex(Consumer<BiConsumer<Long, String>> loader) {
+        this.loader = loader;
+    }
+
+    List<Match> suggest(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            List<Match> resultado = new ArrayList<>(limit);
+            Set<Long> vistos = new HashSet<>();
+            for (Map.Entry<String, Long> entry : porNombre.subMap(q, true, q + Character.MAX_VALUE, false).entrySet()) {
+                if (resultado.size() == limit) {
+                    return resultado;
+                }
+                resultado.add(new Match(entry.getValue(), nombres.get(entry.getValue()), 0));
+                vistos.add(entry.getValue());
+            }
+            if (q.length() >= 3) {
+                fuzzy(q, limit - resultado.size(), vistos, resultado);
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Long id, String name) {
+        write(() -> upsert(id, name));
+    }
+
+    void remove(Long id) {
+        write(() -> unindex(id));
+    }
+
+    private void fuzzy(String q, int faltan, Set<Long> excluidos, List<Match> resultado) {
+        int maxEdits = q.length() <= 4 ? 1 : 2;
+        List<String> gramas = trigrams(q);
+
+        // Cada edición rompe como mucho tres trigramas de lo escrito
+        int minimo = gramas.size() - 3 * maxEdits;
+        int limiteFrecuencia = Math.max(1, (int) (nombres.size() * MAX_FRECUENCIA_TRIGRAMA));
+
+        Map<Long, Integer> comunes = new HashMap<>();
+        for (String grama : gramas) {
+            Postings postings = trigramas.get(grama);
+            if (postings == null) {
+                continue;
+            }
+            if (postings.size > limiteFrecuencia) {
+                minimo--;
+                continue;
+            }
+            for (int i = 0; i < postings.size; i++) {
+                comunes.merge(postings.ids[i], 1, Integer::sum);
+            }
+        }
+        int umbral = Math.max(1, minimo);
+
+        List<Match> candidatos = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : comunes.entrySet()) {
+            if (entry.getValue() < umbral || excluidos.contains(entry.getKey())) {
+                continue;
+            }
+            String nombre = nombres.get(entry.getKey());
+            int distancia = prefixDistance(q, normalize(nombre), maxEdits);
+            if (distancia <= maxEdits) {
+                candidatos.add(new Match(entry.getKey(), nombre, distancia));
+            }
+        }
+        candidatos.sort(Comparator.comparingInt(Match::distance)
+                .thenComparingInt(m -> m.name().length())
+                .thenComparing(Match::name));
+        resultado.addAll(candidatos.subList(0, Math.min(faltan, candidatos.size())));
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                loader.accept(this::upsert);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(Runnable cambio) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                cambio.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void upsert(Long id, String name) {
+        unindex(id);
+        String normalizado = normalize(name);
+        nombres.put(id, name);
+        porNombre.put(normalizado + SEPARADOR + id, id);
+        for (String grama : trigrams(normalizado)) {
+            trigramas.computeIfAbsent(grama, g -> new Postings()).add(id);
+        }
+    }
+
+    private void unindex(Long id) {
+        String anterior = nombres.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        String normalizado = normalize(anterior);
+        porNombre.remove(normalizado + SEPARADOR + id);
+        for (String grama : trigrams(normalizado)) {
+            Postings postings = trigramas.get(grama);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                trigramas.remove(grama);
+            }
+        }
+    }
+
+    /**
+     * Minúsculas, sin acentos y sin espacios repetidos.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Trigramas con marca de inicio, para que el comienzo del nombre pese más.
+     */
+    private static List<String> trigrams(String normalizado) {
+        String s = "^" + normalizado;
+        List<String> gramas = new ArrayList<>(s.length());
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            String grama = s.substring(i, i + 3);
+            if (!gramas.contains(grama)) {
+                gramas.add(grama);
+            }
+        }
+        return gramas;
+    }
+
+    /**
+     * Menor distancia de Levenshtein entre lo escrito y algún comienzo del nombre.
+     * Corta apenas una fila entera supera maxEdits.
+     */
+    private static int prefixDistance(String q, String nombre, int maxEdits) {
+        int[] previa = new int[nombre.length() + 1];
+        int[] actual = new int[nombre.length() + 1];
+        for (int j = 0; j <= nombre.length(); j++) {
+            previa[j] = j;
+        }
+        for (int i = 1; i <= q.length(); i++) {
+            actual[0] = i;
+            int minimoFila = actual[0];
+            for (int j = 1; j <= nombre.length(); j++) {
+                int costo = q.charAt(i - 1) == nombre.charAt(j - 1) ? 0 : 1;
+                actual[j] = Math.min(Math.min(actual[j - 1] + 1, previa[j] + 1), previa[j - 1] + costo);
+                minimoFila = Math.min(minimoFila, actual[j]);
+            }
+            if (minimoFila > maxEdits) {
+                return minimoFila;
+            }
+            int[] tmp = previa;
+            previa = actual;
+            actual = tmp;
+        }
+        int mejor = Integer.MAX_VALUE;
+        for (int j = 0; j <= nombre.length(); j++) {
+            mejor = Math.min(mejor, previa[j]);
+        }
+        return mejor;
+    }
+
+    /**
+     * Lista de IDs sobre un long[] que crece de a mitades, sin boxing por elemento.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
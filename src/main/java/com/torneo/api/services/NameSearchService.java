@@ -0,0 +1,91 @@
+package com.torneo.api.services;
+
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.NameSuggestionDTO;
+import com.torneo.api.repository.TeamRepository;
+import com.torneo.api.repository.UserRepository;
+import com.torneo.api.repository.projections.TeamSummary;
+import com.torneo.api.repository.projections.UserSummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Servicio de autocompletado de nombres de equipos y usuarios.
+ *
+ * ✔ Mantiene un NameIndex por tabla; cada uno se carga la primera vez que se consulta,
+ *   en páginas keyset de 1000 filas.
+ * ✔ TeamService y AuthService avisan altas, cambios y bajas; el índice se actualiza
+ *   después del commit.
+ * ✔ La carga lee de la primaria: después solo se aplican los cambios avisados, así que
+ *   una réplica atrasada dejaría el índice sin esos nombres.
+ * ✔ Reemplaza bajar la lista completa de usuarios o equipos para elegir uno.
+ */
+@Service
+public class NameSearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private static final int LOAD_BATCH = 1000;
+
+    private final NameIndex teams;
+    private final NameIndex users;
+
+    public NameSearchService(TeamRepository teamRepository, UserRepository userRepository) {
+        this.teams = new NameIndex(sink -> DataSourceRouting.runOnPrimary(() -> {
+            List<TeamSummary> filas;
+            long afterId = 0;
+            do {
+                filas = teamRepository.findPageAfter(afterId, PageRequest.ofSize(LOAD_BATCH));
+                for (TeamSummary t : filas) {
+                    sink.accept(t.getId(), t.getName());
+                    afterId = t.getId();
+                }
+            } while (filas.size() == LOAD_BATCH);
+        }));
+        this.users = new NameIndex(sink -> DataSourceRouting.runOnPrimary(() -> {
+            List<UserSummary> filas;
+            long afterId = 0;
+            do {
+                filas = userRepository.findPageAfter(afterId, PageRequest.ofSize(LOAD_BATCH));
+                for (UserSummary u : filas) {
+                    sink.accept(u.getId(), u.getUsername());
+                    afterId = u.getId();
+                }
+            } while (filas.size() == LOAD_BATCH);
+        }));
+    }
+
+    public List<NameSuggestionDTO> suggestTeams(String query, Integer limit) {
+        return suggest(teams, query, limit);
+    }
+
+    public List<NameSuggestionDTO> suggestUsers(String query, Integer limit) {
+        return suggest(users, query, limit);
+    }
+
+    public void teamSaved(Long id, String name) {
+        AfterCommit.run(() -> teams.put(id, name));
+    }
+
+    public void teamDeleted(Long id) {
+        AfterCommit.run(() -> teams.remove(id));
+    }
+
+    public void userSaved(Long id, String username) {
+        AfterCommit.run(() -> users.put(id, username));
+    }
+
+    public void userDeleted(Long id) {
+        AfterCommit.run(() -> users.remove(id));
+    }
+
+    private static List<NameSuggestionDTO> suggest(NameIndex index, String query, Integer limit) {
+        int k = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.suggest(query, k).stream()
+                .map(m -> new NameSuggestionDTO(m.id(), m.name(), m.distance()))
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.torneo.api.services;
 
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.TournamentEventType;
 import com.torneo.api.models.Match;
 import com.torneo.api.models.TeamEntity;
 import com.torneo.api.models.Tournament;
@@ -7,6 +9,7 @@ import com.torneo.api.repository.MatchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,22 +24,30 @@ import java.util.stream.Collectors;
 public class PhaseService {
 
     private final MatchRepository matchRepository;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentEventService eventService;
 
     public void generateInitialPhase(Tournament tournament, List<TeamEntity> equipos) {
         Collections.shuffle(equipos);
 
+        List<Match> partidos = new ArrayList<>(equipos.size() / 2);
         for (int i = 0; i < equipos.size(); i += 2) {
-            Match match = Match.builder()
+            partidos.add(Match.builder()
                     .tournament(tournament)
                     .firstTeam(equipos.get(i))
                     .secondTeam(equipos.get(i + 1))
                     .firstTeamScore(0)
                     .secondTeamScore(0)
                     .status("PENDIENTE")
-                    .build();
+                    .build());
+        }
 
-            matchRepository.save(match);
+        // Un solo saveAll para que Hibernate agrupe los INSERT en un batch JDBC
+        matchRepository.saveAll(partidos);
+        for (Match partido : partidos) {
+            eventService.append(tournament.getId(), TournamentEventType.MATCH_SCHEDULED, MatchService.scheduledPayload(partido));
         }
+        tournamentVersions.bump(tournament.getId());
     }
 
     public void generateNextPhase(Tournament tournament) {
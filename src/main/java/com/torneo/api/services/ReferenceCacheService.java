@@ -0,0 +1,88 @@
+package com.torneo.api.services;
+
+import com.torneo.api.config.ReplicaRoutingDataSource;
+import com.torneo.api.dto.CacheRegionStatsDTO;
+import com.torneo.api.models.TeamEntity;
+import com.torneo.api.models.Tournament;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Servicio que administra el cache de segundo nivel de los datos de referencia.
+ *
+ * ✔ Torneos, equipos y planteles (TeamXPlayer) se leen en casi todas las escrituras
+ *   y cambian poco, por eso Hibernate los guarda en Caffeine (ver application.conf).
+ * ✔ Los servicios llaman a evict* al modificar o borrar, para no depender solo de
+ *   la invalidación automática (que no cubre updates masivos por JPQL).
+ * ✔ Expone aciertos y fallos por región.
+ * ✔ Con réplicas de lectura, cada invalidación se repite pasado el atraso máximo tolerado:
+ *   una lectura en una réplica atrasada pudo volver a cachear la versión vieja.
+ */
+@Service
+public class ReferenceCacheService {
+
+    private static final String TEAM_ROSTER_ROLE = TeamEntity.class.getName() + ".teamXPlayers";
+
+    private final SessionFactory sessionFactory;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final TaskScheduler taskScheduler;
+
+    public ReferenceCacheService(EntityManagerFactory entityManagerFactory,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                                 TaskScheduler taskScheduler) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.replicaRouting = replicaRouting;
+        this.taskScheduler = taskScheduler;
+    }
+
+    public void evictTournament(Long tournamentId) {
+        evict(() -> sessionFactory.getCache().evictEntityData(Tournament.class, tournamentId));
+    }
+
+    public void evictTeam(Long teamId) {
+        evict(() -> sessionFactory.getCache().evictEntityData(TeamEntity.class, teamId));
+        evictRoster(teamId);
+    }
+
+    public void evictRoster(Long teamId) {
+        evict(() -> sessionFactory.getCache().evictCollectionData(TEAM_ROSTER_ROLE, teamId));
+    }
+
+    private void evict(Runnable invalidacion) {
+        invalidacion.run();
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        if (routing != null) {
+            taskScheduler.schedule(invalidacion, Instant.now().plus(routing.getMaxLag()));
+        }
+    }
+
+    public List<CacheRegionStatsDTO> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(region -> {
+                    CacheRegionStatistics s = statistics.getCacheRegionStatistics(region);
+                    if (s == null) {
+                        return null;
+                    }
+                    return CacheRegionStatsDTO.builder()
+                            .region(region)
+                            .hits(s.getHitCount())
+                            .misses(s.getMissCount())
+                            .puts(s.getPutCount())
+                            .elementsInMemory(s.getElementCountInMemory())
+                            .build();
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
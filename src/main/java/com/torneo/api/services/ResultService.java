@@ -1,22 +1,30 @@
 package com.torneo.api.services;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.InscriptionResponseDTO;
 import com.torneo.api.dto.MatchResponseDTO;
 import com.torneo.api.dto.ResultCreateDTO;
 import com.torneo.api.dto.ResultDTO;
+import com.torneo.api.dto.TournamentEventPayload;
 import com.torneo.api.enums.GamesState;
+import com.torneo.api.enums.PartitionedTable;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.ConflictException;
 import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.*;
 import com.torneo.api.repository.ResultRepository;
 import com.torneo.api.repository.TeamRepository;
 import com.torneo.api.repository.TournamentRepository;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +35,8 @@ import java.util.stream.Collectors;
  * ✔ Elimina el partido jugado.
  * ✔ Verifica si quedan partidos. Si no, avanza fase o declara campeón.
  * ✔ Usa el método campeonEmail() para enviar el mail al ganador.
+ * ✔ Las cargas de un mismo torneo se serializan con TournamentLocks y se ejecutan en una
+ *   sola transacción; con `Idempotency-Key` un reintento devuelve la respuesta original.
  */
 @Service
 @RequiredArgsConstructor
@@ -35,6 +45,8 @@ public class ResultService {
     private final ResultRepository resultRepository;
     private final TournamentRepository tournamentRepository;
     private final TeamRepository teamRepository;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentPartitionService partitionService;
 
     @Autowired private TeamXPlayerService teamXPlayerService;
     @Autowired private UserDetailsServiceImpl userDetailsService;
@@ -43,8 +55,59 @@ public class ResultService {
     @Autowired private TournamentService tournamentService;
     @Autowired private EmailService emailService;
     @Autowired private PhaseService phaseService;
+    @Autowired private IdempotencyService idempotencyService;
+    @Autowired private TournamentLocks tournamentLocks;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private TournamentEventService eventService;
+    @Autowired private TournamentArchiveService archiveService;
 
-    public ResultDTO createResult(ResultCreateDTO dto) {
+    private static final String IDEMPOTENCY_SCOPE = "results";
+
+    public ResultDTO createResult(ResultCreateDTO dto, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<ResultDTO> previo = idempotencyService.find(IDEMPOTENCY_SCOPE, idempotencyKey, dto, ResultDTO.class);
+            if (previo.isPresent()) {
+                return previo.get();
+            }
+        }
+
+        // Un resultado borra inscripciones, partidos y puede generar la fase siguiente:
+        // dos cargas del mismo torneo en paralelo pisarían esas decisiones
+        Lock lock = tournamentLocks.forTournament(dto.getTournamentId());
+        lock.lock();
+        try {
+            if (idempotencyKey != null) {
+                // Otro reintento pudo terminar mientras esperábamos el lock
+                Optional<ResultDTO> previo = idempotencyService.find(IDEMPOTENCY_SCOPE, idempotencyKey, dto, ResultDTO.class);
+                if (previo.isPresent()) {
+                    return previo.get();
+                }
+            }
+            try {
+                return transactionTemplate.execute(status -> {
+                    ResultDTO creado = registrarResultado(dto);
+                    if (idempotencyKey != null) {
+                        idempotencyService.store(IDEMPOTENCY_SCOPE, idempotencyKey, dto, creado);
+                    }
+                    return creado;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // La misma clave para otro torneo no pasa por este lock: si otra carga la guardó
+                // primero, se devuelve su respuesta o, con otros datos, se rechaza el reuso
+                if (idempotencyKey != null) {
+                    Optional<ResultDTO> previo = idempotencyService.find(IDEMPOTENCY_SCOPE, idempotencyKey, dto, ResultDTO.class);
+                    if (previo.isPresent()) {
+                        return previo.get();
+                    }
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ResultDTO registrarResultado(ResultCreateDTO dto) {
         Tournament tournament = tournamentRepository.findById(dto.getTournamentId())
                 .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
 
@@ -70,52 +133,72 @@ public class ResultService {
 
         // Eliminar partido relacionado
         List<MatchResponseDTO> partidos = matchService.getMatchesByTournament(tournament.getId());
-        partidos.stream()
+        Optional<MatchResponseDTO> jugado = partidos.stream()
                 .filter(p -> (p.getFirstTeamName().equals(winner.getName()) && p.getSecondTeamName().equals(loser.getName())) ||
                         (p.getFirstTeamName().equals(loser.getName()) && p.getSecondTeamName().equals(winner.getName())))
-                .findFirst()
-                .ifPresent(match -> matchService.deleteMatch(match.getId()));
+                .findFirst();
+        jugado.ifPresent(match -> matchService.deleteMatch(match.getId()));
+
+        // El partido y la inscripción se borran, pero el resultado queda en el historial del torneo
+        Result guardado = resultRepository.save(result);
+        eventService.append(tournament.getId(), TournamentEventType.RESULT_RECORDED, TournamentEventPayload.builder()
+                .resultId(guardado.getId())
+                .matchId(jugado.map(MatchResponseDTO::getId).orElse(null))
+                .winnerTeamId(winner.getId())
+                .loserTeamId(loser.getId())
+                .scoreWinnerTeam(dto.getScoreWinnerTeam())
+                .scoreLoserTeam(dto.getScoreLoserTeam())
+                .build());
 
         // Verificar si quedan partidos
         List<MatchResponseDTO> partidosRestantes = matchService.getMatchesByTournament(tournament.getId());
 
+        boolean finalizado = false;
         if (partidosRestantes.isEmpty()) {
             List<InscriptionResponseDTO> inscripciones = inscriptionService.getByTournament(tournament.getId());
 
             if (inscripciones.size() == 1) {
-                // CAMPEÓN → Enviar mail
+                // Marcar torneo como FINALIZADO; si otra carga ya lo finalizó, se revierte todo
+                if (!tournamentService.transition(tournament.getId(), GamesState.ACTIVE, GamesState.FINISHED)) {
+                    throw new ConflictException("El torneo ya no está activo.");
+                }
+                finalizado = true;
+
+                // CAMPEÓN → Enviar mail (una sola vez, solo quien finalizó el torneo y recién después
+                // del commit: si el archivo o la clave de idempotencia fallan, no hubo campeón)
                 Long equipoId = Long.valueOf(inscripciones.get(0).getTeamID());
                 List<TeamXPlayer> jugadores = teamXPlayerService.getByTeamId(equipoId);
 
                 jugadores.stream().findFirst().ifPresent(txp -> {
                     Optional<User> user = userDetailsService.getById(txp.getUser().getId());
-                    user.ifPresent(u -> {
-                        try {
-                            emailService.campeonEmail(u.getEmail());
-                        } catch (MessagingException e) {
-                            System.err.println("Error al enviar el email al campeón: " + e.getMessage());
-                        }
-                    });
+                    user.ifPresent(u -> AfterCommit.run(() -> emailService.campeonEmail(u.getEmail())));
                 });
-
-                // Marcar torneo como FINALIZADO
-                tournament.setState(GamesState.FINISHED);
-                tournamentService.update(tournament);
             } else {
                 // Generar nueva fase
                 phaseService.generateNextPhase(tournament);
             }
         }
 
-        return mapToDTO(resultRepository.save(result));
+        ResultDTO creado = mapToDTO(guardado);
+
+        // Con el último resultado guardado, el torneo queda archivado en la misma transacción
+        if (finalizado) {
+            archiveService.archive(tournament.getId());
+        }
+        tournamentVersions.bump(tournament.getId());
+        return creado;
     }
 
+    @Transactional
     public ResultDTO updateResult(Long id, ResultCreateDTO dto) {
         Result result = resultRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Resultado no encontrado"));
+        Long torneoAnterior = result.getTournament().getId();
 
         Tournament tournament = tournamentRepository.findById(dto.getTournamentId())
                 .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+        // Puede tocar dos torneos: se toman juntos y en orden antes de escribir
+        eventService.lockTournaments(List.of(torneoAnterior, tournament.getId()));
 
         TeamEntity winner = teamRepository.findById(dto.getWinerTeamId())
                 .orElseThrow(() -> new NotFoundException("Equipo ganador no encontrado"));
@@ -129,19 +212,57 @@ public class ResultService {
         result.setScoreWinnerTeam(dto.getScoreWinnerTeam());
         result.setScoreLoserTeam(dto.getScoreLoserTeam());
 
-        return mapToDTO(resultRepository.save(result));
+        ResultDTO actualizado = mapToDTO(resultRepository.save(result));
+        if (!torneoAnterior.equals(tournament.getId())) {
+            eventService.append(torneoAnterior, TournamentEventType.RESULT_DELETED,
+                    TournamentEventPayload.builder().resultId(id).build());
+        }
+        eventService.append(tournament.getId(), TournamentEventType.RESULT_UPDATED, TournamentEventPayload.builder()
+                .resultId(id)
+                .winnerTeamId(winner.getId())
+                .loserTeamId(loser.getId())
+                .scoreWinnerTeam(result.getScoreWinnerTeam())
+                .scoreLoserTeam(result.getScoreLoserTeam())
+                .build());
+        tournamentVersions.bump(torneoAnterior);
+        tournamentVersions.bump(tournament.getId());
+        return actualizado;
     }
 
+    @Transactional
     public void deleteResult(Long id) {
-        resultRepository.deleteById(id);
+        resultRepository.findById(id).ifPresent(result -> {
+            // La baja y su RESULT_DELETED se confirman juntas, serializada con las demás escrituras del torneo
+            eventService.lockTournaments(List.of(result.getTournament().getId()));
+            resultRepository.delete(result);
+            eventService.append(result.getTournament().getId(), TournamentEventType.RESULT_DELETED,
+                    TournamentEventPayload.builder().resultId(id).build());
+            tournamentVersions.bump(result.getTournament().getId());
+        });
     }
 
-    public List<ResultDTO> getAll() {
-        return resultRepository.findAll().stream()
-                .map(this::mapToDTO)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ResultDTO> getAll(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<Long> ids = partitionService.pageIds(PartitionedTable.RESULTS,
+                CursorPageDTO.decodeCursor(cursor), pageSize + 1);
+        if (ids.isEmpty()) {
+            return CursorPageDTO.of(List.of(), pageSize, ResultDTO::getId);
+        }
+        List<ResultDTO> filas = resultRepository.findSummariesByIdIn(ids).stream()
+                .map(r -> ResultDTO.builder()
+                        .id(r.getId())
+                        .tournamentId(r.getTournamentId())
+                        .winerTeamId(r.getWinnerTeamId())
+                        .loserTeamId(r.getLoserTeamId())
+                        .scoreWinnerTeam(r.getScoreWinnerTeam())
+                        .scoreLoserTeam(r.getScoreLoserTeam())
+                        .build())
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(filas, pageSize, ResultDTO::getId);
     }
 
+    @Transactional(readOnly = true)
     public Optional<ResultDTO> getById(Long id) {
         return resultRepository.findById(id).map(this::mapToDTO);
     }
@@ -5,26 +5,33 @@
  * ✔ Relaciona equipos con torneos si corresponde.
  * ✔ Maneja correctamente las conversiones de Set a List para los jugadores.
  * ✔ Convierte entidades a DTOs y viceversa.
+ * ✔ Mantiene al día el autocompletado de nombres (NameSearchService).
  */
 
 package com.torneo.api.services;
 
+import com.torneo.api.dto.CursorPageDTO;
 import com.torneo.api.dto.TeamRequestDTO;
 import com.torneo.api.dto.TeamResponseDTO;
 import com.torneo.api.dto.TeamXPlayerRequestDTO;
+import com.torneo.api.exceptions.ConflictException;
 import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.*;
 import com.torneo.api.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TeamService {
@@ -33,6 +40,12 @@ public class TeamService {
     private TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final TeamXPlayerService teamXPlayerService;
+    private final ReferenceCacheService referenceCacheService;
+    private final TournamentVersions tournamentVersions;
+    private final NameSearchService nameSearchService;
+    private final InscriptionRepository inscriptionRepository;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
 
     public void updateTeam(TeamResponseDTO dto)
     {
@@ -41,6 +54,9 @@ public class TeamService {
                 .name(dto.getName())
                 .build();
         teamRepository.save(team);
+        referenceCacheService.evictTeam(dto.getId());
+        tournamentVersions.bumpAll();
+        nameSearchService.teamSaved(dto.getId(), dto.getName());
     }
 
     public TeamResponseDTO createTeam(TeamRequestDTO dto) {
@@ -50,7 +66,7 @@ public class TeamService {
 
         //2. Quiero corroborar que todos los ids pasados como usuarios para que pertezcan al team, existan:
         if(players.size() != dto.getPlayerIds().size()){
-            System.err.println("Uno de los ids, por lo menos, no existe en la Base de datos");
+            log.warn("Uno de los ids, por lo menos, no existe en la Base de datos: {}", dto.getPlayerIds());
             return null;
         }
 
@@ -61,6 +77,7 @@ public class TeamService {
         
         //Guardo el equipo
         TeamResponseDTO teamResponseDTO = mapToDTO(teamRepository.save(team));
+        nameSearchService.teamSaved(teamResponseDTO.getId(), teamResponseDTO.getName());
 
         // 3. Obtener al usuario autenticado (para marcarlo como capitán)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -86,19 +103,37 @@ public class TeamService {
     }
 
 
+    @Transactional
     public void deleteTeam(Long id) {
-        if (!teamRepository.existsById(id)) {
-            throw new NotFoundException("Equipo no encontrado");
+        // Fila del equipo bloqueada antes del control: las inscripciones y partidos nuevos la leen
+        // con lock compartido, así que ninguno se confirma entre el control y el borrado
+        teamRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new NotFoundException("Equipo no encontrado"));
+        // Las tablas particionadas no tienen claves foráneas: sin este control quedarían filas huérfanas
+        if (inscriptionRepository.existsByTeam_Id(id) || matchRepository.existsByFirstTeam_IdOrSecondTeam_Id(id, id)
+                || resultRepository.existsByWinnerTeam_IdOrLoserTeam_Id(id, id)) {
+            throw new ConflictException("El equipo tiene inscripciones, partidos o resultados.");
         }
         teamRepository.deleteById(id);
+        referenceCacheService.evictTeam(id);
+        tournamentVersions.bumpAll();
+        nameSearchService.teamDeleted(id);
     }
 
-    public List<TeamResponseDTO> listTeams() {
-        return teamRepository.findAll().stream()
-                .map(this::mapToDTO)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TeamResponseDTO> listTeams(String cursor, Integer size) {
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<TeamResponseDTO> filas = teamRepository
+                .findPageAfter(CursorPageDTO.decodeCursor(cursor), PageRequest.ofSize(pageSize + 1)).stream()
+                .map(t -> TeamResponseDTO.builder()
+                        .id(t.getId())
+                        .name(t.getName())
+                        .build())
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(filas, pageSize, TeamResponseDTO::getId);
     }
 
+    @Transactional(readOnly = true)
     public TeamResponseDTO findTeamById(Long id) {
         return teamRepository.findById(id)
                 .map(this::mapToDTO)
@@ -2,16 +2,21 @@ package com.torneo.api.services;
 
 import com.torneo.api.dto.TeamXPlayerRequestDTO;
 import com.torneo.api.dto.TeamXPlayerResponseDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.ConflictException;
 import com.torneo.api.exceptions.NotFoundException;
 import com.torneo.api.models.TeamEntity;
 import com.torneo.api.models.TeamXPlayer;
 import com.torneo.api.models.User;
+import com.torneo.api.repository.InscriptionRepository;
 import com.torneo.api.repository.TeamRepository;
 import com.torneo.api.repository.TeamXPlayerRepository;
 import com.torneo.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -42,6 +47,19 @@ public class TeamXPlayerService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReferenceCacheService referenceCacheService;
+
+    @Autowired
+    private TournamentVersions tournamentVersions;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepository;
+
+    @Autowired
+    private TournamentEventService eventService;
+
+    @Transactional
     public TeamXPlayerResponseDTO createTeamXPlayer(TeamXPlayerRequestDTO dto) {
         TeamEntity team = teamRepository.findById(dto.getTeamID())
                 .orElseThrow(() -> new NotFoundException("No existe el team"));
@@ -49,19 +67,22 @@ public class TeamXPlayerService {
         User user = userRepository.findById(dto.getUserID())
                 .orElseThrow(() -> new NotFoundException("No existe el user"));
 
+        // El plantel sale del cache de segundo nivel del equipo (sin ir a la base)
+        List<TeamXPlayer> plantel = team.getTeamXPlayers() != null ? team.getTeamXPlayers() : List.of();
+
         // Validar que el jugador no esté ya en el equipo
-        boolean yaExiste = teamXPlayerRepository.findByTeamEntity_Id(team.getId()).stream()
+        boolean yaExiste = plantel.stream()
                 .anyMatch(txp -> txp.getUser().getId().equals(user.getId()));
         if (yaExiste) {
-            throw new IllegalArgumentException("El jugador ya está en este equipo.");
+            throw new ConflictException("El jugador ya está en este equipo.");
         }
 
         // Validar que no haya otro capitán si este jugador será capitán
         if (dto.isCaptain()) {
-            boolean yaHayCapitan = teamXPlayerRepository.findByTeamEntity_Id(team.getId()).stream()
+            boolean yaHayCapitan = plantel.stream()
                     .anyMatch(TeamXPlayer::isCaptain);
             if (yaHayCapitan) {
-                throw new IllegalArgumentException("Este equipo ya tiene un capitán asignado.");
+                throw new ConflictException("Este equipo ya tiene un capitán asignado.");
             }
         }
 
@@ -71,13 +92,34 @@ public class TeamXPlayerService {
                 .isCaptain(dto.isCaptain())
                 .build();
 
-        return mapToResponseDTO(teamXPlayerRepository.save(teamXPlayer));
+        TeamXPlayer guardado = teamXPlayerRepository.save(teamXPlayer);
+        if (team.getTeamXPlayers() != null) {
+            team.getTeamXPlayers().add(guardado);
+        }
+        referenceCacheService.evictRoster(team.getId());
+
+        // El plantel cambia en todos los torneos donde el equipo está inscripto: se toman todos
+        // juntos en orden de franja, porque cada evento retiene el lock del torneo hasta el commit
+        List<Long> torneos = inscriptionRepository.findByTeamId(team.getId()).stream()
+                .map(i -> i.getTournament().getId())
+                .distinct()
+                .toList();
+        eventService.lockTournaments(torneos);
+        torneos.forEach(tournamentId -> eventService.append(tournamentId, TournamentEventType.ROSTER_CHANGED,
+                        TournamentEventPayload.builder()
+                                .teamId(team.getId())
+                                .userId(user.getId())
+                                .captain(guardado.isCaptain())
+                                .build()));
+        tournamentVersions.bumpAll();
+        return mapToResponseDTO(guardado);
     }
 
     public List<TeamXPlayer> getByTeamId(Long teamID) {
         return teamXPlayerRepository.findByTeamEntity_Id(teamID);
     }
 
+    @Transactional(readOnly = true)
     public List<TeamXPlayerResponseDTO> getDTOsByTeamId(Long teamID) {
         return getByTeamId(teamID).stream()
                 .map(this::mapToResponseDTO)
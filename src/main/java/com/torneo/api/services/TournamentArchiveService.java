@@ -0,0 +1,269 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.ResultDTO;
+import com.torneo.api.dto.StandingDTO;
+import com.torneo.api.dto.TournamentArchiveDTO;
+import com.torneo.api.dto.TournamentDetailDTO;
+import com.torneo.api.dto.TournamentResponseDTO;
+import com.torneo.api.enums.GamesState;
+import com.torneo.api.exceptions.ConflictException;
+import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.models.Inscription;
+import com.torneo.api.models.TeamEntity;
+import com.torneo.api.models.Tournament;
+import com.torneo.api.models.TournamentArchive;
+import com.torneo.api.repository.InscriptionRepository;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
+import com.torneo.api.repository.TeamRepository;
+import com.torneo.api.repository.TeamXPlayerRepository;
+import com.torneo.api.repository.TournamentArchiveRepository;
+import com.torneo.api.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servicio que archiva los torneos finalizados en un único documento comprimido.
+ *
+ * ✔ Al finalizar el torneo arma el documento (llave, posiciones, planteles, resultados)
+ *   desde el historial de eventos y lo guarda en tournament_archives con gzip.
+ * ✔ Las lecturas de torneos finalizados salen del documento; los documentos recientes
+ *   quedan en memoria en un LRU acotado por bytes (comprimidos).
+ * ✔ Recuerda qué torneos no tienen archivo mientras su versión no cambie, para no
+ *   consultar la tabla en cada lectura de un torneo activo.
+ * ✔ pruneHotRows() borra resultados, partidos e inscripciones de un torneo ya archivado.
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentArchiveService {
+
+    private static final long MAX_CACHE_BYTES = 32L * 1024 * 1024;
+    private static final int MAX_SIN_ARCHIVO = 10_000;
+
+    private final TournamentArchiveRepository archiveRepository;
+    private final TournamentRepository tournamentRepository;
+    private final InscriptionRepository inscriptionRepository;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
+    private final TeamRepository teamRepository;
+    private final TeamXPlayerRepository teamXPlayerRepository;
+    private final TournamentProjectionService projectionService;
+    private final TournamentVersions tournamentVersions;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final LinkedHashMap<Long, byte[]> recientes = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesEnCache;
+    // Acotado con Caffeine: al llegar al tope se olvidan los torneos menos leídos, no todos a la vez
+    private final Cache<Long, Long> sinArchivo = Caffeine.newBuilder()
+            .maximumSize(MAX_SIN_ARCHIVO)
+            .build();
+
+    /**
+     * Arma y guarda el documento del torneo. Se llama en la misma transacción que lo finaliza;
+     * si el torneo ya tiene archivo no hace nada.
+     */
+    @Transactional
+    public void archive(Long tournamentId) {
+        if (archiveRepository.existsById(tournamentId)) {
+            return;
+        }
+        GamesState estado = tournamentRepository.findStateById(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+        if (estado != GamesState.FINISHED) {
+            throw new ConflictException("Solo se pueden archivar torneos finalizados.");
+        }
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+
+        TournamentProjection proyeccion = projectionService.replay(tournamentId);
+        List<ResultDTO> resultados = resultRepository.findByTournamentIdOrderById(tournamentId).stream()
+                .map(r -> ResultDTO.builder()
+                        .id(r.getId())
+                        .tournamentId(tournamentId)
+                        .winerTeamId(r.getWinnerTeam().getId())
+                        .loserTeamId(r.getLoserTeam().getId())
+                        .scoreWinnerTeam(r.getScoreWinnerTeam())
+                        .scoreLoserTeam(r.getScoreLoserTeam())
+                        .build())
+                .toList();
+
+        // Equipos que jugaron: los del historial más los que aparecen en resultados previos al historial
+        Set<Long> equipoIds = new LinkedHashSet<>(proyeccion.getStandings().keySet());
+        resultados.forEach(r -> {
+            equipoIds.add(r.getWinerTeamId());
+            equipoIds.add(r.getLoserTeamId());
+        });
+        List<Inscription> restantes = inscriptionRepository.findWithTeamByTournamentId(tournamentId);
+        restantes.forEach(i -> equipoIds.add(i.getTeam().getId()));
+
+        Map<Long, String> nombres = teamRepository.findAllById(equipoIds).stream()
+                .collect(Collectors.toMap(TeamEntity::getId, TeamEntity::getName));
+        Map<Long, List<TournamentDetailDTO.RosterPlayer>> planteles = equipoIds.isEmpty() ? Map.of()
+                : teamXPlayerRepository.findWithUserByTeamIds(equipoIds).stream()
+                .collect(Collectors.groupingBy(txp -> txp.getTeamEntity().getId(),
+                        Collectors.mapping(txp -> TournamentDetailDTO.RosterPlayer.builder()
+                                .userId(txp.getUser().getId())
+                                .username(txp.getUser().getUsername())
+                                .captain(txp.isCaptain())
+                                .build(), Collectors.toList())));
+
+        proyeccion.getStandings().values()
+                .forEach(s -> s.setTeamName(nombres.getOrDefault(s.getTeamId(), s.getTeamName())));
+        List<StandingDTO> posiciones = proyeccion.getStandings().values().stream()
+                .sorted(TournamentProjection.STANDINGS_ORDER)
+                .toList();
+        Long campeon = restantes.size() == 1
+                ? restantes.get(0).getTeam().getId()
+                : posiciones.stream().filter(s -> !s.isEliminated()).map(StandingDTO::getTeamId).findFirst().orElse(null);
+
+        TournamentArchiveDTO documento = TournamentArchiveDTO.builder()
+                .tournament(TournamentResponseDTO.builder()
+                        .id(tournament.getId())
+                        .name(tournament.getName())
+                        .game(tournament.getGame())
+                        .category(tournament.getCategory())
+                        .state(GamesState.FINISHED)
+                        .startDate(tournament.getStartDate())
+                        .endDate(tournament.getEndDate())
+                        .maxTeams(tournament.getMaxTeams())
+                        .build())
+                .championTeamId(campeon)
+                .teams(equipoIds.stream()
+                        .map(id -> TournamentDetailDTO.TeamRoster.builder()
+                                .id(id)
+                                .name(nombres.get(id))
+                                .players(planteles.getOrDefault(id, List.of()))
+                                .build())
+                        .toList())
+                .bracket(proyeccion.getBracket().values().stream()
+                        .sorted(TournamentProjection.BRACKET_ORDER)
+                        .toList())
+                .standings(posiciones)
+                .results(resultados)
+                .archivedAt(LocalDateTime.now())
+                .build();
+
+        archiveRepository.save(TournamentArchive.builder()
+                .tournamentId(tournamentId)
+                .document(gzip(documento))
+                .createdAt(LocalDateTime.now())
+                .build());
+        sinArchivo.invalidate(tournamentId);
+        tournamentVersions.bump(tournamentId);
+    }
+
+    public Optional<TournamentArchiveDTO> find(Long tournamentId) {
+        return findCompressed(tournamentId).map(this::gunzip);
+    }
+
+    /**
+     * Documento comprimido tal como está guardado, para enviarlo sin descomprimir.
+     */
+    public Optional<byte[]> findCompressed(Long tournamentId) {
+        byte[] doc = cacheGet(tournamentId);
+        if (doc != null) {
+            return Optional.of(doc);
+        }
+        long version = tournamentVersions.current(tournamentId);
+        Long sinArchivoEnVersion = sinArchivo.getIfPresent(tournamentId);
+        if (sinArchivoEnVersion != null && sinArchivoEnVersion == version) {
+            return Optional.empty();
+        }
+
+        Optional<byte[]> guardado = DataSourceRouting.onPrimary(
+                () -> archiveRepository.findById(tournamentId).map(TournamentArchive::getDocument));
+        if (guardado.isPresent()) {
+            cachePut(tournamentId, guardado.get());
+        } else {
+            sinArchivo.put(tournamentId, version);
+        }
+        return guardado;
+    }
+
+    /**
+     * Borra de las tablas calientes las filas de un torneo que ya está archivado.
+     * El torneo y su historial de eventos se conservan.
+     */
+    @Transactional
+    public int pruneHotRows(Long tournamentId) {
+        if (!archiveRepository.existsById(tournamentId)) {
+            throw new ConflictException("El torneo no está archivado.");
+        }
+        int borradas = resultRepository.deleteByTournamentId(tournamentId)
+                + matchRepository.deleteByTournamentId(tournamentId)
+                + inscriptionRepository.deleteByTournamentId(tournamentId);
+        tournamentVersions.bump(tournamentId);
+        return borradas;
+    }
+
+    private byte[] cacheGet(Long tournamentId) {
+        cacheLock.lock();
+        try {
+            return recientes.get(tournamentId);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void cachePut(Long tournamentId, byte[] doc) {
+        if (doc.length > MAX_CACHE_BYTES) {
+            return;
+        }
+        cacheLock.lock();
+        try {
+            if (recientes.containsKey(tournamentId)) {
+                return;
+            }
+            recientes.put(tournamentId, doc);
+            bytesEnCache += doc.length;
+            var it = recientes.entrySet().iterator();
+            while (bytesEnCache > MAX_CACHE_BYTES && it.hasNext()) {
+                bytesEnCache -= it.next().getValue().length;
+                it.remove();
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private byte[] gzip(TournamentArchiveDTO documento) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, documento);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo comprimir el archivo del torneo", e);
+        }
+        return out.toByteArray();
+    }
+
+    private TournamentArchiveDTO gunzip(byte[] doc) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(doc))) {
+            return objectMapper.readValue(in, TournamentArchiveDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el archivo del torneo", e);
+        }
+    }
+}
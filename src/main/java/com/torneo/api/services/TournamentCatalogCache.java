@@ -0,0 +1,148 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.torneo.api.enums.WireFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Modelo de lectura del catálogo público de torneos.
+ *
+ * ✔ Guarda la respuesta ya serializada (JSON y JSON comprimido con gzip) por cada
+ *   combinación de filtros (estado, categoría, cursor y tamaño de página), en un cache Caffeine
+ *   acotado por cantidad de entradas.
+ * ✔ Cada entrada tiene un ETag calculado sobre el contenido, para responder 304.
+ * ✔ Las variantes CBOR y Smile se generan la primera vez que alguien las pide, copiando el JSON
+ *   token a token (sin volver a armar los DTO), y quedan guardadas en la misma entrada.
+ * ✔ Un contador de versión invalida todo el catálogo cuando TournamentService modifica
+ *   un torneo. Una carga que empezó antes de una invalidación no se guarda.
+ *
+ * Mientras no haya escrituras, leer el catálogo no consulta la base ni vuelve a serializar.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentCatalogCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory CBOR_FACTORY = new CBORFactory();
+    private static final JsonFactory SMILE_FACTORY = new SmileFactory();
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong version = new AtomicLong();
+    // Acotado con Caffeine: el cursor y el tamaño los elige el cliente, y recorrer claves nuevas
+    // solo desaloja las entradas menos usadas; la primera página de cada filtro sigue en memoria
+    private final Cache<String, CatalogEntry> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    public CatalogEntry getOrLoad(String key, Supplier<?> loader) {
+        long versionActual = version.get();
+        CatalogEntry entry = entries.getIfPresent(key);
+        if (entry != null && entry.version() == versionActual) {
+            return entry;
+        }
+
+        CatalogEntry nueva = serialize(versionActual, loader.get());
+
+        // Si hubo una escritura mientras se cargaba, la entrada ya nació vieja: se usa pero no se guarda
+        if (version.get() == versionActual) {
+            entries.put(key, nueva);
+        }
+        return nueva;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private CatalogEntry serialize(long entryVersion, Object respuesta) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(respuesta);
+            return new CatalogEntry(entryVersion, json, gzip(json), etag(json), new ConcurrentHashMap<>());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el catálogo de torneos", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] recodificar(byte[] json, WireFormat formato) {
+        JsonFactory destino = formato == WireFormat.CBOR ? CBOR_FACTORY : SMILE_FACTORY;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = destino.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Respuesta serializada del catálogo. El ETag identifica el contenido JSON;
+     * las variantes gzip, CBOR y Smile usan el mismo ETag con sufijo para no mezclar representaciones.
+     */
+    public record CatalogEntry(long version, byte[] json, byte[] gzip, String etag, Map<WireFormat, byte[]> binary) {
+
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+
+        public String etag(WireFormat formato) {
+            return formato == WireFormat.JSON ? etag : etag.substring(0, etag.length() - 1) + "-" + formato.getSuffix() + "\"";
+        }
+
+        public byte[] body(WireFormat formato) {
+            if (formato == WireFormat.JSON) {
+                return json;
+            }
+            return binary.computeIfAbsent(formato, f -> recodificar(json, f));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.dto.TournamentChangeDTO;
+import com.torneo.api.dto.TournamentChangesDTO;
+import com.torneo.api.dto.TournamentEventDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.TournamentEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feed de cambios de un torneo para clientes que sincronizan por diferencia.
+ *
+ * ✔ La versión de un torneo es el seq de su historial de eventos: cada alta, baja o
+ *   modificación de inscripciones, partidos, resultados o planteles registra un evento.
+ * ✔ Los eventos posteriores a since se compactan por entidad: varios cambios de marcador del
+ *   mismo partido llegan como una sola entrada con el último valor de cada campo.
+ * ✔ Primero lee el último seq confirmado del torneo (un MAX por el índice único de
+ *   tournament_id y seq): si since ya es esa versión, responde sin leer eventos. Sale de la base
+ *   y no de memoria porque con varias instancias cada una solo conoce los seq que asignó ella.
+ * ✔ Si desde since hay más de torneo.changes.max-events eventos, o since es una versión que el
+ *   servidor nunca dio, pide una resincronización completa: a esa altura bajar el torneo entero
+ *   cuesta menos que reproducir los cambios.
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentChangesService {
+
+    private final TournamentEventService eventService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${torneo.changes.max-events:500}")
+    private int maxEvents;
+
+    public TournamentChangesDTO changesSince(Long tournamentId, long since) {
+        long confirmado = eventService.lastCommittedSeq(tournamentId);
+        if (since < 0 || since > confirmado) {
+            return resync(tournamentId, since, confirmado);
+        }
+        if (since == confirmado) {
+            return respuesta(tournamentId, since, since, List.of());
+        }
+
+        List<TournamentEventDTO> eventos = eventService.eventsAfter(tournamentId, since, maxEvents + 1);
+        if (eventos.size() > maxEvents) {
+            return resync(tournamentId, since, confirmado);
+        }
+        long version = eventos.isEmpty() ? since : eventos.get(eventos.size() - 1).getSeq();
+        return respuesta(tournamentId, since, version, compactar(eventos));
+    }
+
+    private List<TournamentChangeDTO> compactar(List<TournamentEventDTO> eventos) {
+        Map<String, TournamentChangeDTO> porEntidad = new LinkedHashMap<>();
+        for (TournamentEventDTO evento : eventos) {
+            TournamentEventPayload p = evento.getPayload();
+            String entidad = entidad(evento.getType());
+            Long id = id(entidad, evento);
+            // Los resultados anteriores al feed no guardaban su id: cada uno queda como cambio propio
+            String clave = entidad + ":" + (id != null ? id : "#" + evento.getSeq())
+                    + (entidad.equals("roster") ? ":" + p.getTeamId() : "");
+
+            boolean borrado = esBaja(evento.getType());
+            TournamentChangeDTO anterior = porEntidad.remove(clave);
+            TournamentEventPayload datos = borrado ? null
+                    : anterior == null || anterior.isDeleted() ? p
+                    : combinar(anterior.getData(), p);
+            porEntidad.put(clave, TournamentChangeDTO.builder()
+                    .entity(entidad)
+                    .id(id)
+                    .seq(evento.getSeq())
+                    .deleted(borrado)
+                    .data(datos)
+                    .build());
+        }
+        return new ArrayList<>(porEntidad.values());
+    }
+
+    // Los campos no nulos del evento nuevo pisan a los del cambio acumulado
+    private TournamentEventPayload combinar(TournamentEventPayload acumulado, TournamentEventPayload nuevo) {
+        try {
+            TournamentEventPayload copia = objectMapper.convertValue(acumulado, TournamentEventPayload.class);
+            return objectMapper.updateValue(copia, nuevo);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("No se pudieron combinar los cambios del torneo", e);
+        }
+    }
+
+    private static String entidad(TournamentEventType type) {
+        return switch (type) {
+            case TEAM_INSCRIBED, INSCRIPTION_DELETED -> "inscription";
+            case MATCH_SCHEDULED, SCORE_UPDATED, MATCH_DELETED -> "match";
+            case RESULT_RECORDED, RESULT_UPDATED, RESULT_DELETED -> "result";
+            case ROSTER_CHANGED -> "roster";
+            case STATE_CHANGED -> "tournament";
+        };
+    }
+
+    private static Long id(String entidad, TournamentEventDTO evento) {
+        TournamentEventPayload p = evento.getPayload();
+        return switch (entidad) {
+            case "inscription" -> p.getTeamId();
+            case "match" -> p.getMatchId();
+            case "result" -> p.getResultId();
+            case "roster" -> p.getUserId();
+            default -> evento.getTournamentId();
+        };
+    }
+
+    private static boolean esBaja(TournamentEventType type) {
+        return type == TournamentEventType.INSCRIPTION_DELETED
+                || type == TournamentEventType.MATCH_DELETED
+                || type == TournamentEventType.RESULT_DELETED;
+    }
+
+    private static TournamentChangesDTO resync(Long tournamentId, long since, long version) {
+        return TournamentChangesDTO.builder()
+                .tournamentId(tournamentId)
+                .since(since)
+                .version(version)
+                .resyncRequired(true)
+                .changes(List.of())
+                .build();
+    }
+
+    private static TournamentChangesDTO respuesta(Long tournamentId, long since, long version,
+                                                  List<TournamentChangeDTO> changes) {
+        return TournamentChangesDTO.builder()
+                .tournamentId(tournamentId)
+                .since(since)
+                .version(version)
+                .changes(changes)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.torneo.api.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.MatchResponseDTO;
+import com.torneo.api.dto.ResultDTO;
+import com.torneo.api.dto.TournamentArchiveDTO;
+import com.torneo.api.dto.TournamentDetailDTO;
+import com.torneo.api.dto.TournamentResponseDTO;
+import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.models.Inscription;
+import com.torneo.api.models.Tournament;
+import com.torneo.api.models.TeamXPlayer;
+import com.torneo.api.repository.InscriptionRepository;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
+import com.torneo.api.repository.TeamXPlayerRepository;
+import com.torneo.api.repository.TournamentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio que arma el detalle completo de un torneo para la página del frontend.
+ *
+ * ✔ Reemplaza las llamadas sucesivas a torneo, inscripciones, partidos y planteles por equipo.
+ * ✔ Hace cinco consultas con join fetch, una tras otra en una sola transacción de solo lectura
+ *   (la de la petición si ya hay una); ninguna dispara cargas lazy. Usa una sola conexión:
+ *   repartirlas en hilos con transacciones propias tomaba hasta seis conexiones del pool por detalle.
+ * ✔ Guarda el resultado por torneo junto con su versión (TournamentVersions): mientras el
+ *   torneo no cambie, el detalle se sirve sin consultar la base.
+ * ✔ Un torneo finalizado y archivado se arma desde su documento (TournamentArchiveService).
+ */
+@Service
+public class TournamentDetailService {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private final TournamentRepository tournamentRepository;
+    private final InscriptionRepository inscriptionRepository;
+    private final TeamXPlayerRepository teamXPlayerRepository;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentArchiveService archiveService;
+    private final TransactionTemplate readOnlyTx;
+
+    // Al llegar al tope se desalojan los detalles menos pedidos, no todos
+    private final Cache<Long, CachedDetail> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    public TournamentDetailService(TournamentRepository tournamentRepository,
+                                   InscriptionRepository inscriptionRepository,
+                                   TeamXPlayerRepository teamXPlayerRepository,
+                                   MatchRepository matchRepository,
+                                   ResultRepository resultRepository,
+                                   TournamentVersions tournamentVersions,
+                                   TournamentArchiveService archiveService,
+                                   PlatformTransactionManager transactionManager) {
+        this.tournamentRepository = tournamentRepository;
+        this.inscriptionRepository = inscriptionRepository;
+        this.teamXPlayerRepository = teamXPlayerRepository;
+        this.matchRepository = matchRepository;
+        this.resultRepository = resultRepository;
+        this.tournamentVersions = tournamentVersions;
+        this.archiveService = archiveService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public TournamentDetailDTO getDetail(Long tournamentId) {
+        long version = tournamentVersions.current(tournamentId);
+        CachedDetail cached = cache.getIfPresent(tournamentId);
+        if (cached != null && cached.version() == version) {
+            return cached.detail();
+        }
+
+        TournamentDetailDTO detail = archiveService.find(tournamentId)
+                .map(archivo -> fromArchive(archivo, version))
+                // El detalle se cachea por versión: leerlo de una réplica atrasada guardaría datos viejos
+                .orElseGet(() -> DataSourceRouting.onPrimary(() ->
+                        readOnlyTx.execute(status -> load(tournamentId, version))));
+
+        // Si el torneo cambió durante la carga, el detalle se devuelve pero no se guarda
+        if (tournamentVersions.current(tournamentId) == version) {
+            cache.put(tournamentId, new CachedDetail(version, detail));
+        }
+        return detail;
+    }
+
+    private TournamentDetailDTO load(Long tournamentId, long version) {
+        TournamentResponseDTO tournament = tournamentRepository.findById(tournamentId)
+                .map(this::mapTournament)
+                .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+        Map<Long, List<TournamentDetailDTO.RosterPlayer>> jugadoresPorEquipo =
+                teamXPlayerRepository.findRostersByTournamentId(tournamentId).stream()
+                        .collect(Collectors.groupingBy(txp -> txp.getTeamEntity().getId(),
+                                Collectors.mapping(this::mapPlayer, Collectors.toList())));
+        List<TournamentDetailDTO.TeamRoster> equipos = inscriptionRepository.findWithTeamByTournamentId(tournamentId).stream()
+                .map(Inscription::getTeam)
+                .map(team -> TournamentDetailDTO.TeamRoster.builder()
+                        .id(team.getId())
+                        .name(team.getName())
+                        .players(jugadoresPorEquipo.getOrDefault(team.getId(), List.of()))
+                        .build())
+                .toList();
+        List<MatchResponseDTO> matches = matchRepository.findWithTeamsByTournamentId(tournamentId).stream()
+                .map(m -> MatchResponseDTO.builder()
+                        .id(m.getId())
+                        .tournamentName(tournament.getName())
+                        .firstTeamName(m.getFirstTeam().getName())
+                        .secondTeamName(m.getSecondTeam().getName())
+                        .firstTeamScore(m.getFirstTeamScore())
+                        .secondTeamScore(m.getSecondTeamScore())
+                        .status(m.getStatus())
+                        .build())
+                .toList();
+        List<ResultDTO> resultados = resultRepository.findByTournamentIdOrderById(tournamentId).stream()
+                .map(r -> ResultDTO.builder()
+                        .id(r.getId())
+                        .tournamentId(tournamentId)
+                        .winerTeamId(r.getWinnerTeam().getId())
+                        .loserTeamId(r.getLoserTeam().getId())
+                        .scoreWinnerTeam(r.getScoreWinnerTeam())
+                        .scoreLoserTeam(r.getScoreLoserTeam())
+                        .build())
+                .toList();
+
+        return TournamentDetailDTO.builder()
+                .version(version)
+                .tournament(tournament)
+                .teams(equipos)
+                .matches(matches)
+                .results(resultados)
+                .build();
+    }
+
+    private TournamentDetailDTO fromArchive(TournamentArchiveDTO archivo, long version) {
+        return TournamentDetailDTO.builder()
+                .version(version)
+                .tournament(archivo.getTournament())
+                .teams(archivo.getTeams())
+                .matches(archivo.getBracket().stream()
+                        .map(m -> MatchResponseDTO.builder()
+                                .id(m.getMatchId())
+                                .tournamentName(archivo.getTournament().getName())
+                                .firstTeamName(m.getFirstTeamName())
+                                .secondTeamName(m.getSecondTeamName())
+                                .firstTeamScore(m.getFirstTeamScore())
+                                .secondTeamScore(m.getSecondTeamScore())
+                                .status(m.getStatus())
+                                .build())
+                        .toList())
+                .results(archivo.getResults())
+                .build();
+    }
+
+    private TournamentResponseDTO mapTournament(Tournament t) {
+        return TournamentResponseDTO.builder()
+                .id(t.getId())
+                .name(t.getName())
+                .game(t.getGame())
+                .category(t.getCategory())
+                .state(t.getState())
+                .startDate(t.getStartDate())
+                .endDate(t.getEndDate())
+                .maxTeams(t.getMaxTeams())
+                .build();
+    }
+
+    private TournamentDetailDTO.RosterPlayer mapPlayer(TeamXPlayer txp) {
+        return TournamentDetailDTO.RosterPlayer.builder()
+                .userId(txp.getUser().getId())
+                .username(txp.getUser().getUsername())
+                .captain(txp.isCaptain())
+                .build();
+    }
+
+    private record CachedDetail(long version, TournamentDetailDTO detail) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.TournamentEventDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.ConflictException;
+import com.torneo.api.models.TournamentEvent;
+import com.torneo.api.repository.TournamentEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Servicio que registra y lee el historial de eventos de cada torneo.
+ *
+ * ✔ Registrar un evento es un solo INSERT; nunca se modifican ni se borran eventos.
+ * ✔ El seq de cada torneo se lleva en memoria (se inicializa con el máximo de la tabla).
+ * ✔ Mientras dura la transacción que registró el evento, el torneo queda tomado en
+ *   TournamentLocks: así los eventos se confirman en el mismo orden que su seq y quien lee
+ *   "eventos después de N" nunca se saltea uno que todavía no se confirmó.
+ * ✔ Una escritura que toca varios torneos los toma antes con lockTournaments (en orden de
+ *   franja). Igual el lock se espera como mucho torneo.events.lock-timeout: si no se consigue,
+ *   la transacción falla con 409 en vez de quedar trabada con filas bloqueadas en la base.
+ * ✔ Si la transacción se revierte, el contador se descarta y se vuelve a leer de la tabla.
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentEventService {
+
+    private final TournamentEventRepository eventRepository;
+    private final TournamentLocks tournamentLocks;
+    private final ObjectMapper objectMapper;
+
+    @Value("${torneo.events.lock-timeout:5s}")
+    private Duration lockTimeout;
+
+    private final Map<Long, AtomicLong> lastSeq = new ConcurrentHashMap<>();
+
+    /**
+     * Toma de una vez los torneos que la transacción actual va a tocar, en orden de franja,
+     * y los suelta al terminar la transacción. Los append posteriores reusan esos locks.
+     */
+    public void lockTournaments(Collection<Long> tournamentIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("lockTournaments necesita una transacción activa");
+        }
+        for (Lock lock : tournamentLocks.forTournaments(tournamentIds)) {
+            acquire(lock);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+
+    public void append(Long tournamentId, TournamentEventType type, TournamentEventPayload payload) {
+        Lock lock = tournamentLocks.forTournament(tournamentId);
+        acquire(lock);
+        boolean liberarAlTerminarTransaccion = false;
+        try {
+            long seq = lastSeq.computeIfAbsent(tournamentId, id -> new AtomicLong(eventRepository.findLastSeq(id)))
+                    .incrementAndGet();
+            eventRepository.save(TournamentEvent.builder()
+                    .tournamentId(tournamentId)
+                    .seq(seq)
+                    .type(type)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            lastSeq.remove(tournamentId);
+                        }
+                        lock.unlock();
+                    }
+                });
+                liberarAlTerminarTransaccion = true;
+            }
+        } catch (JsonProcessingException e) {
+            lastSeq.remove(tournamentId);
+            throw new IllegalStateException("No se pudo serializar el evento del torneo", e);
+        } catch (RuntimeException e) {
+            lastSeq.remove(tournamentId);
+            throw e;
+        } finally {
+            if (!liberarAlTerminarTransaccion) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void acquire(Lock lock) {
+        try {
+            if (!lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ConflictException("El torneo está ocupado con otra escritura; reintentar en unos segundos");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el lock del torneo", e);
+        }
+    }
+
+    /**
+     * Último seq confirmado en la base.
+     */
+    public long lastCommittedSeq(Long tournamentId) {
+        return eventRepository.findLastSeq(tournamentId);
+    }
+
+    /**
+     * Eventos del torneo posteriores a afterSeq, en orden, hasta limit eventos.
+     */
+    public List<TournamentEventDTO> eventsAfter(Long tournamentId, long afterSeq, int limit) {
+        return eventRepository.findAfter(tournamentId, afterSeq, PageRequest.ofSize(limit)).stream()
+                .map(this::mapToDTO)
+                .toList();
+    }
+
+    /**
+     * Historial del torneo paginado por cursor (el cursor es el último seq entregado).
+     */
+    public CursorPageDTO<TournamentEventDTO> history(Long tournamentId, String cursor, Integer size) {
+        int pageSize = CursorPageDTO.clampSize(size);
+        List<TournamentEventDTO> filas = eventsAfter(tournamentId, CursorPageDTO.decodeCursor(cursor), pageSize + 1);
+        return CursorPageDTO.of(filas, pageSize, TournamentEventDTO::getSeq);
+    }
+
+    private TournamentEventDTO mapToDTO(TournamentEvent e) {
+        try {
+            return TournamentEventDTO.builder()
+                    .tournamentId(e.getTournamentId())
+                    .seq(e.getSeq())
+                    .type(e.getType())
+                    .createdAt(e.getCreatedAt())
+                    .payload(objectMapper.readValue(e.getPayload(), TournamentEventPayload.class))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Evento de torneo ilegible: " + e.getId(), ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.torneo.api.services;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks por torneo para serializar las escrituras que avanzan el torneo
+ * (registrar resultados, generar fases).
+ *
+ * ✔ Usa un número fijo de locks (striping): dos torneos solo comparten lock si caen
+ *   en la misma franja, así que torneos distintos avanzan en paralelo.
+ * ✔ No crece con la cantidad de torneos ni hay que limpiar nada.
+ * ✔ Quien necesita varios torneos a la vez los toma con forTournaments: siempre en orden
+ *   de franja y sin repetir, así dos escrituras que cruzan torneos no se bloquean entre sí.
+ *
+ * Serializa dentro de esta instancia; entre instancias la protección la da la clave
+ * primaria de idempotency_keys.
+ */
+@Component
+public class TournamentLocks {
+
+    private static final int STRIPES = 64;
+
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public TournamentLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock forTournament(Long tournamentId) {
+        return locks[stripe(tournamentId)];
+    }
+
+    /**
+     * Locks de varios torneos ordenados por franja y sin repetir (dos torneos pueden compartir franja).
+     */
+    public List<Lock> forTournaments(Collection<Long> tournamentIds) {
+        return tournamentIds.stream()
+                .mapToInt(TournamentLocks::stripe)
+                .distinct()
+                .sorted()
+                .mapToObj(i -> locks[i])
+                .toList();
+    }
+
+    private static int stripe(Long tournamentId) {
+        return Math.floorMod(Long.hashCode(tournamentId), STRIPES);
+    }
+}
@@ -0,0 +1,230 @@
+package com.torneo.api.services;
+
+import com.torneo.api.dto.PartitionStatsDTO;
+import com.torneo.api.enums.PartitionedTable;
+import com.torneo.api.exceptions.ConflictException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Servicio que conoce el particionado por torneo de matches, results, inscriptions y match_events.
+ *
+ * ✔ partitionOf(): en qué partición queda un torneo (misma fórmula que LINEAR HASH de MySQL).
+ *   Las consultas que filtran por tournament_id no necesitan nada más: MySQL lee solo esa partición.
+ * ✔ pageIds(): los listados de administración recorren todos los torneos por ID con una sola
+ *   consulta por rango de PK, en la conexión de quien llama. MySQL recorre el índice de cada
+ *   partición y mezcla los resultados en orden; abrir una transacción por partición en paralelo
+ *   ocupaba una conexión del pool por partición además de la del request.
+ * ✔ rebalance(): cambia la cantidad de particiones con ADD / COALESCE PARTITION.
+ * ✔ stats(): filas y bytes por partición, y por tabla el total y la latencia de los listados.
+ *
+ * En H2 (o en una base sin particionar) todo funciona igual sobre una única partición.
+ */
+@Service
+public class TournamentPartitionService {
+
+    public static final int MAX_PARTITIONS = 1024;
+
+    private static final Pattern NOMBRE_PARTICION = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock rebalanceo = new ReentrantLock();
+
+    private final Map<PartitionedTable, List<String>> particiones = new ConcurrentHashMap<>();
+    private final Map<String, Latencia> latencias = new ConcurrentHashMap<>();
+    private volatile Boolean mysql;
+
+    public TournamentPartitionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Partición donde MySQL guarda las filas del torneo, o null si la tabla no está particionada.
+     */
+    public String partitionOf(PartitionedTable table, long tournamentId) {
+        List<String> nombres = partitions(table);
+        if (nombres.isEmpty()) {
+            return null;
+        }
+        return nombres.get(linearHash(tournamentId, nombres.size()));
+    }
+
+    /**
+     * IDs de la página siguiente a afterId, en orden, tomando de todas las particiones.
+     */
+    public List<Long> pageIds(PartitionedTable table, long afterId, int limit) {
+        return medir(table, () -> jdbcTemplate.queryForList(
+                "SELECT id FROM " + table.getTableName() + " WHERE id > ? ORDER BY id LIMIT ?",
+                Long.class, afterId, limit));
+    }
+
+    public List<PartitionStatsDTO> stats() {
+        List<PartitionStatsDTO> stats = new ArrayList<>();
+        if (isMysql()) {
+            jdbcTemplate.query("""
+                            SELECT TABLE_NAME, PARTITION_NAME, TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH
+                            FROM information_schema.PARTITIONS
+                            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('matches', 'results', 'inscriptions', 'match_events')
+                            ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION
+                            """,
+                    rs -> {
+                        stats.add(PartitionStatsDTO.builder()
+                                .table(rs.getString(1))
+                                .partition(rs.getString(2))
+                                .rows(rs.getLong(3))
+                                .dataBytes(rs.getLong(4))
+                                .indexBytes(rs.getLong(5))
+                                .build());
+                    });
+            // Una fila por tabla con el total de sus particiones y la latencia de los listados
+            for (PartitionedTable table : PartitionedTable.values()) {
+                List<PartitionStatsDTO> deLaTabla = stats.stream()
+                        .filter(p -> p.getTable().equals(table.getTableName()))
+                        .toList();
+                stats.add(withLatency(PartitionStatsDTO.builder()
+                        .table(table.getTableName())
+                        .rows(deLaTabla.stream().mapToLong(PartitionStatsDTO::getRows).sum())
+                        .dataBytes(deLaTabla.stream().mapToLong(PartitionStatsDTO::getDataBytes).sum())
+                        .indexBytes(deLaTabla.stream().mapToLong(PartitionStatsDTO::getIndexBytes).sum())
+                        .build()));
+            }
+            return stats;
+        }
+        for (PartitionedTable table : PartitionedTable.values()) {
+            Long filas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table.getTableName(), Long.class);
+            stats.add(withLatency(PartitionStatsDTO.builder()
+                    .table(table.getTableName())
+                    .rows(filas == null ? 0 : filas)
+                    .build()));
+        }
+        return stats;
+    }
+
+    /**
+     * Lleva las tablas particionadas a la cantidad de particiones pedida. Con LINEAR HASH, MySQL solo
+     * reescribe las particiones que se dividen o se juntan, no la tabla entera.
+     * Bloquea escrituras sobre cada tabla mientras corre: es una tarea de mantenimiento.
+     */
+    public List<PartitionStatsDTO> rebalance(int cantidad) {
+        if (cantidad < 1 || cantidad > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("La cantidad de particiones debe estar entre 1 y " + MAX_PARTITIONS + ".");
+        }
+        if (!isMysql()) {
+            throw new ConflictException("El particionado solo está disponible en MySQL.");
+        }
+        if (!rebalanceo.tryLock()) {
+            throw new ConflictException("Ya hay un rebalanceo de particiones en curso.");
+        }
+        try {
+            for (PartitionedTable table : PartitionedTable.values()) {
+                int actuales = loadPartitions(table).size();
+                if (actuales == 0) {
+                    throw new ConflictException("La tabla " + table.getTableName() + " no está particionada.");
+                }
+                if (cantidad > actuales) {
+                    jdbcTemplate.execute("ALTER TABLE " + table.getTableName()
+                            + " ADD PARTITION PARTITIONS " + (cantidad - actuales));
+                } else if (cantidad < actuales) {
+                    jdbcTemplate.execute("ALTER TABLE " + table.getTableName()
+                            + " COALESCE PARTITION " + (actuales - cantidad));
+                }
+                particiones.remove(table);
+            }
+            latencias.clear();
+            return stats();
+        } finally {
+            rebalanceo.unlock();
+        }
+    }
+
+    private List<String> partitions(PartitionedTable table) {
+        return particiones.computeIfAbsent(table, this::loadPartitions);
+    }
+
+    private List<String> loadPartitions(PartitionedTable table) {
+        if (!isMysql()) {
+            return List.of();
+        }
+        List<String> nombres = jdbcTemplate.queryForList("""
+                        SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                String.class, table.getTableName());
+        for (String nombre : nombres) {
+            if (!NOMBRE_PARTICION.matcher(nombre).matches()) {
+                throw new IllegalStateException("Nombre de partición inesperado: " + nombre);
+            }
+        }
+        return List.copyOf(nombres);
+    }
+
+    private boolean isMysql() {
+        Boolean actual = mysql;
+        if (actual == null) {
+            actual = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            mysql = actual;
+        }
+        return Boolean.TRUE.equals(actual);
+    }
+
+    /**
+     * Partición de LINEAR HASH según el manual de MySQL: se toma la potencia de dos siguiente
+     * a la cantidad de particiones y se va partiendo a la mitad hasta caer en una que exista.
+     */
+    static int linearHash(long tournamentId, int cantidad) {
+        if (cantidad == 1) {
+            return 0;
+        }
+        long potencia = Long.highestOneBit(cantidad - 1) << 1;
+        long n = tournamentId & (potencia - 1);
+        while (n >= cantidad) {
+            potencia >>= 1;
+            n &= potencia - 1;
+        }
+        return (int) n;
+    }
+
+    private <T> T medir(PartitionedTable table, Supplier<T> consulta) {
+        long inicio = System.nanoTime();
+        try {
+            return consulta.get();
+        } finally {
+            latencias.computeIfAbsent(table.getTableName(), k -> new Latencia())
+                    .registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    private PartitionStatsDTO withLatency(PartitionStatsDTO dto) {
+        Latencia latencia = latencias.get(dto.getTable());
+        if (latencia != null) {
+            long consultas = latencia.cantidad.sum();
+            dto.setQueries(consultas);
+            dto.setAvgMicros(consultas == 0 ? 0 : latencia.totalNanos.sum() / consultas / 1_000);
+            dto.setMaxMicros(latencia.maxNanos.get() / 1_000);
+        }
+        return dto;
+    }
+
+    private static final class Latencia {
+        private final LongAdder cantidad = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void registrar(long nanos) {
+            cantidad.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+}
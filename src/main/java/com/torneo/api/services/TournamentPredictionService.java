@@ -0,0 +1,235 @@
+package com.torneo.api.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.TournamentPredictionDTO;
+import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.models.Inscription;
+import com.torneo.api.models.Match;
+import com.torneo.api.models.TeamEntity;
+import com.torneo.api.repository.InscriptionRepository;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
+import com.torneo.api.repository.TournamentRepository;
+import com.torneo.api.repository.projections.TeamResultCount;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio que estima la probabilidad de cada equipo de ganar cada ronda que le queda al torneo.
+ *
+ * ✔ La llave sale de los partidos del torneo: los pendientes son los cruces de la ronda en curso;
+ *   los equipos inscriptos que no perdieron y no tienen cruce pendiente ya pasaron de ronda.
+ * ✔ La fuerza de cada equipo es su porcentaje de victorias histórico (todos sus resultados, con
+ *   una victoria y una derrota de base para los equipos nuevos); un cruce se decide con la
+ *   fórmula log5: P(a gana) = a(1-b) / (a(1-b) + b(1-a)).
+ * ✔ Corre torneo.predictions.simulations simulaciones en un ForkJoinPool propio
+ *   (BracketSimulator). Con un millón el error es menor a ±0,1% con 95% de confianza.
+ * ✔ El resultado se guarda por torneo junto con su versión (TournamentVersions), así que se
+ *   recalcula recién cuando se carga un resultado u otro cambio del torneo. Si muchos piden a la
+ *   vez la misma versión, se calcula una sola vez y todos esperan ese cálculo.
+ */
+@Service
+public class TournamentPredictionService {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final String FINALIZADO = "FINALIZADO";
+
+    private final TournamentRepository tournamentRepository;
+    private final InscriptionRepository inscriptionRepository;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
+    private final TournamentVersions tournamentVersions;
+    private final int simulations;
+    private final ForkJoinPool pool;
+
+    // Vista Map de un cache Caffeine: al llegar al tope se desalojan las predicciones menos pedidas, no todas
+    private final Map<Long, CachedPrediction> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .<Long, CachedPrediction>build()
+            .asMap();
+
+    public TournamentPredictionService(TournamentRepository tournamentRepository,
+                                       InscriptionRepository inscriptionRepository,
+                                       MatchRepository matchRepository,
+                                       ResultRepository resultRepository,
+                                       TournamentVersions tournamentVersions,
+                                       @Value("${torneo.predictions.simulations:1000000}") int simulations,
+                                       @Value("${torneo.predictions.parallelism:0}") int parallelism) {
+        this.tournamentRepository = tournamentRepository;
+        this.inscriptionRepository = inscriptionRepository;
+        this.matchRepository = matchRepository;
+        this.resultRepository = resultRepository;
+        this.tournamentVersions = tournamentVersions;
+        this.simulations = simulations;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentPredictionDTO predict(Long tournamentId) {
+        long version = tournamentVersions.current(tournamentId);
+        CachedPrediction nueva = new CachedPrediction(version, new CompletableFuture<>());
+        CachedPrediction vigente = cache.compute(tournamentId,
+                (id, actual) -> actual != null && actual.version() >= version ? actual : nueva);
+
+        if (vigente == nueva) {
+            try {
+                nueva.prediction().complete(calcular(tournamentId, version));
+            } catch (RuntimeException e) {
+                cache.remove(tournamentId, nueva);
+                nueva.prediction().completeExceptionally(e);
+            }
+        }
+        return await(vigente.prediction());
+    }
+
+    private TournamentPredictionDTO calcular(Long tournamentId, long version) {
+        long inicio = System.nanoTime();
+        // Se cachea por versión: leer de una réplica atrasada guardaría una llave vieja
+        Llave llave = DataSourceRouting.onPrimary(() -> cargarLlave(tournamentId));
+
+        List<TeamEntity> equipos = llave.equipos();
+        int n = equipos.size();
+        double[] fuerza = fuerzas(equipos);
+        double[][] probabilidad = new double[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                double ganaA = fuerza[a] * (1 - fuerza[b]);
+                double ganaB = fuerza[b] * (1 - fuerza[a]);
+                probabilidad[a][b] = a == b ? 0.5 : ganaA / (ganaA + ganaB);
+            }
+        }
+
+        BracketSimulator simulador = new BracketSimulator(probabilidad, llave.pendientesPrimero(),
+                llave.pendientesSegundo(), llave.pasaron());
+        int rondas = simulador.rounds();
+        long[] ganadas = simulador.run(pool, simulations, new SplittableRandom());
+
+        List<TournamentPredictionDTO.TeamPrediction> predicciones = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            List<Double> porRonda = new ArrayList<>(rondas);
+            for (int r = 0; r < rondas; r++) {
+                porRonda.add((double) ganadas[i * rondas + r] / simulations);
+            }
+            // Sin rondas por jugar, el único equipo vivo ya es el campeón
+            double campeon = rondas > 0 ? porRonda.get(rondas - 1) : (n == 1 ? 1.0 : 0.0);
+            predicciones.add(TournamentPredictionDTO.TeamPrediction.builder()
+                    .teamId(equipos.get(i).getId())
+                    .teamName(equipos.get(i).getName())
+                    .strength(fuerza[i])
+                    .champion(campeon)
+                    .rounds(porRonda)
+                    .build());
+        }
+        predicciones.sort(Comparator.comparingDouble(TournamentPredictionDTO.TeamPrediction::getChampion).reversed());
+
+        return TournamentPredictionDTO.builder()
+                .tournamentId(tournamentId)
+                .version(version)
+                .simulations(simulations)
+                .margin(1.96 * Math.sqrt(0.25 / simulations))
+                .tookMillis((System.nanoTime() - inicio) / 1_000_000)
+                .teams(predicciones)
+                .build();
+    }
+
+    private Llave cargarLlave(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new NotFoundException("Torneo no encontrado");
+        }
+        List<Match> partidos = matchRepository.findWithTeamsByTournamentId(tournamentId);
+        Set<Long> eliminados = partidos.stream()
+                .filter(m -> FINALIZADO.equalsIgnoreCase(m.getStatus()))
+                .map(m -> m.getFirstTeamScore() >= m.getSecondTeamScore() ? m.getSecondTeam() : m.getFirstTeam())
+                .map(TeamEntity::getId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Integer> indice = new LinkedHashMap<>();
+        List<TeamEntity> equipos = new ArrayList<>();
+        for (Inscription inscripcion : inscriptionRepository.findWithTeamByTournamentId(tournamentId)) {
+            TeamEntity equipo = inscripcion.getTeam();
+            if (!eliminados.contains(equipo.getId()) && !indice.containsKey(equipo.getId())) {
+                indice.put(equipo.getId(), equipos.size());
+                equipos.add(equipo);
+            }
+        }
+
+        List<int[]> cruces = new ArrayList<>();
+        Set<Integer> conCruce = new HashSet<>();
+        for (Match partido : partidos) {
+            Integer primero = indice.get(partido.getFirstTeam().getId());
+            Integer segundo = indice.get(partido.getSecondTeam().getId());
+            if (!FINALIZADO.equalsIgnoreCase(partido.getStatus()) && primero != null && segundo != null) {
+                cruces.add(new int[]{primero, segundo});
+                conCruce.add(primero);
+                conCruce.add(segundo);
+            }
+        }
+
+        int[] pendientesPrimero = cruces.stream().mapToInt(c -> c[0]).toArray();
+        int[] pendientesSegundo = cruces.stream().mapToInt(c -> c[1]).toArray();
+        int[] pasaron = indice.values().stream().filter(i -> !conCruce.contains(i)).mapToInt(Integer::intValue).toArray();
+        return new Llave(equipos, pendientesPrimero, pendientesSegundo, pasaron);
+    }
+
+    // Porcentaje de victorias con una victoria y una derrota de base: nunca vale 0 ni 1
+    private double[] fuerzas(List<TeamEntity> equipos) {
+        List<Long> ids = equipos.stream().map(TeamEntity::getId).toList();
+        if (ids.isEmpty()) {
+            return new double[0];
+        }
+        Map<Long, Long> victorias = contar(DataSourceRouting.onPrimary(() -> resultRepository.countWinsByTeamIdIn(ids)));
+        Map<Long, Long> derrotas = contar(DataSourceRouting.onPrimary(() -> resultRepository.countLossesByTeamIdIn(ids)));
+        double[] fuerza = new double[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            long ganados = victorias.getOrDefault(ids.get(i), 0L);
+            long perdidos = derrotas.getOrDefault(ids.get(i), 0L);
+            fuerza[i] = (ganados + 1.0) / (ganados + perdidos + 2.0);
+        }
+        return fuerza;
+    }
+
+    private static Map<Long, Long> contar(List<TeamResultCount> filas) {
+        Map<Long, Long> totales = new HashMap<>();
+        for (TeamResultCount fila : filas) {
+            totales.put(fila.getTeamId(), fila.getTotal());
+        }
+        return totales;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private record Llave(List<TeamEntity> equipos, int[] pendientesPrimero, int[] pendientesSegundo, int[] pasaron) {
+    }
+
+    private record CachedPrediction(long version, CompletableFuture<TournamentPredictionDTO> prediction) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.torneo.api.services;
+
+import com.torneo.api.dto.BracketMatchDTO;
+import com.torneo.api.dto.StandingDTO;
+import com.torneo.api.dto.TournamentEventDTO;
+import com.torneo.api.dto.TournamentEventPayload;
+import com.torneo.api.enums.GamesState;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estado de las proyecciones de un torneo (posiciones y llaves) armado reproduciendo sus eventos.
+ *
+ * ✔ apply() aplica un evento; aplicar los eventos en orden de seq da siempre el mismo resultado.
+ * ✔ Se serializa tal cual como snapshot (TournamentSnapshot) hasta `lastSeq`.
+ * ✔ La ronda de cada partido sale de las rondas anteriores de sus equipos (eliminación directa).
+ */
+@Data
+@NoArgsConstructor
+public class TournamentProjection {
+
+    // Posiciones: más victorias, después mejor diferencia de puntos
+    static final Comparator<StandingDTO> STANDINGS_ORDER = Comparator.comparingInt(StandingDTO::getWins).reversed()
+            .thenComparing(Comparator.comparingInt((StandingDTO s) -> s.getPointsFor() - s.getPointsAgainst()).reversed())
+            .thenComparing(StandingDTO::getTeamId);
+
+    static final Comparator<BracketMatchDTO> BRACKET_ORDER = Comparator.comparingInt(BracketMatchDTO::getRound)
+            .thenComparing(BracketMatchDTO::getMatchId);
+
+    private long lastSeq;
+    private GamesState state;
+    private Map<Long, StandingDTO> standings = new LinkedHashMap<>();
+    private Map<Long, BracketMatchDTO> bracket = new LinkedHashMap<>();
+
+    public void apply(TournamentEventDTO event) {
+        TournamentEventPayload p = event.getPayload();
+        switch (event.getType()) {
+            case TEAM_INSCRIBED -> standing(p.getTeamId(), p.getTeamName());
+            case MATCH_SCHEDULED -> bracket.put(p.getMatchId(), BracketMatchDTO.builder()
+                    .matchId(p.getMatchId())
+                    .round(nextRound(p.getFirstTeamId(), p.getSecondTeamId()))
+                    .firstTeamId(p.getFirstTeamId())
+                    .firstTeamName(p.getFirstTeamName())
+                    .secondTeamId(p.getSecondTeamId())
+                    .secondTeamName(p.getSecondTeamName())
+                    .firstTeamScore(p.getFirstTeamScore())
+                    .secondTeamScore(p.getSecondTeamScore())
+                    .status(p.getStatus())
+                    .build());
+            case SCORE_UPDATED -> {
+                BracketMatchDTO partido = bracket.get(p.getMatchId());
+                if (partido != null) {
+                    partido.setFirstTeamScore(p.getFirstTeamScore());
+                    partido.setSecondTeamScore(p.getSecondTeamScore());
+                    partido.setStatus(p.getStatus());
+                }
+            }
+            case RESULT_RECORDED -> applyResult(p);
+            case STATE_CHANGED -> state = p.getToState();
+            // Al cargar un resultado se borran el partido y la inscripción del perdedor, pero la
+            // llave y las posiciones los conservan
+            case INSCRIPTION_DELETED, MATCH_DELETED, RESULT_UPDATED, RESULT_DELETED, ROSTER_CHANGED -> { }
+        }
+        lastSeq = event.getSeq();
+    }
+
+    private void applyResult(TournamentEventPayload p) {
+        BracketMatchDTO partido = p.getMatchId() != null ? bracket.get(p.getMatchId()) : null;
+        if (partido == null) {
+            partido = bracket.values().stream()
+                    .filter(m -> m.getWinnerTeamId() == null)
+                    .filter(m -> involves(m, p.getWinnerTeamId()) && involves(m, p.getLoserTeamId()))
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (partido != null) {
+            boolean ganoPrimero = Objects.equals(partido.getFirstTeamId(), p.getWinnerTeamId());
+            partido.setFirstTeamScore(ganoPrimero ? p.getScoreWinnerTeam() : p.getScoreLoserTeam());
+            partido.setSecondTeamScore(ganoPrimero ? p.getScoreLoserTeam() : p.getScoreWinnerTeam());
+            partido.setStatus("FINALIZADO");
+            partido.setWinnerTeamId(p.getWinnerTeamId());
+        }
+
+        StandingDTO ganador = standing(p.getWinnerTeamId(), null);
+        ganador.setPlayed(ganador.getPlayed() + 1);
+        ganador.setWins(ganador.getWins() + 1);
+        ganador.setPointsFor(ganador.getPointsFor() + p.getScoreWinnerTeam());
+        ganador.setPointsAgainst(ganador.getPointsAgainst() + p.getScoreLoserTeam());
+
+        StandingDTO perdedor = standing(p.getLoserTeamId(), null);
+        perdedor.setPlayed(perdedor.getPlayed() + 1);
+        perdedor.setLosses(perdedor.getLosses() + 1);
+        perdedor.setPointsFor(perdedor.getPointsFor() + p.getScoreLoserTeam());
+        perdedor.setPointsAgainst(perdedor.getPointsAgainst() + p.getScoreWinnerTeam());
+        perdedor.setEliminated(true);
+    }
+
+    private StandingDTO standing(Long teamId, String teamName) {
+        StandingDTO fila = standings.computeIfAbsent(teamId, id -> StandingDTO.builder().teamId(id).build());
+        if (teamName != null) {
+            fila.setTeamName(teamName);
+        }
+        return fila;
+    }
+
+    private int nextRound(Long firstTeamId, Long secondTeamId) {
+        return bracket.values().stream()
+                .filter(m -> involves(m, firstTeamId) || involves(m, secondTeamId))
+                .mapToInt(BracketMatchDTO::getRound)
+                .max()
+                .orElse(0) + 1;
+    }
+
+    private static boolean involves(BracketMatchDTO partido, Long teamId) {
+        return Objects.equals(partido.getFirstTeamId(), teamId) || Objects.equals(partido.getSecondTeamId(), teamId);
+    }
+}
@@ -0,0 +1,128 @@
+package com.torneo.api.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.torneo.api.dto.BracketMatchDTO;
+import com.torneo.api.dto.StandingDTO;
+import com.torneo.api.dto.TournamentEventDTO;
+import com.torneo.api.models.TournamentSnapshot;
+import com.torneo.api.repository.TournamentSnapshotRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio que arma las proyecciones de lectura de un torneo (posiciones y llaves)
+ * reproduciendo su historial de eventos.
+ *
+ * ✔ Parte del último snapshot guardado y solo reproduce los eventos posteriores.
+ * ✔ Cuando reprodujo SNAPSHOT_EVERY eventos o más, guarda un snapshot nuevo: el costo de
+ *   cada lectura queda acotado aunque el historial crezca.
+ * ✔ El snapshot se escribe en una transacción propia y con UPDATE/INSERT condicionales: solo
+ *   avanza (nunca vuelve a un last_seq menor) y una carrera entre lecturas no afecta a quien llama.
+ * ✔ replay() reproduce sin guardar snapshot, para quien lee dentro de una transacción de escritura.
+ * ✔ rebuild() descarta el snapshot y recalcula todo desde el primer evento.
+ */
+@Service
+public class TournamentProjectionService {
+
+    private static final int SNAPSHOT_EVERY = 100;
+    private static final int REPLAY_BATCH = 500;
+
+    private final TournamentEventService eventService;
+    private final TournamentSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTx;
+
+    public TournamentProjectionService(TournamentEventService eventService,
+                                       TournamentSnapshotRepository snapshotRepository,
+                                       ObjectMapper objectMapper,
+                                       PlatformTransactionManager transactionManager) {
+        this.eventService = eventService;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<StandingDTO> getStandings(Long tournamentId) {
+        return load(tournamentId).getStandings().values().stream()
+                .sorted(TournamentProjection.STANDINGS_ORDER)
+                .toList();
+    }
+
+    public List<BracketMatchDTO> getBracket(Long tournamentId) {
+        return load(tournamentId).getBracket().values().stream()
+                .sorted(TournamentProjection.BRACKET_ORDER)
+                .toList();
+    }
+
+    public void rebuild(Long tournamentId) {
+        snapshotRepository.deleteById(tournamentId);
+        load(tournamentId);
+    }
+
+    TournamentProjection load(Long tournamentId) {
+        return load(tournamentId, true);
+    }
+
+    /**
+     * Igual que load() pero sin guardar snapshot. El archivo de un torneo se arma dentro de la
+     * transacción que registra el último resultado: ahí no se escribe nada que no sea del resultado.
+     */
+    TournamentProjection replay(Long tournamentId) {
+        return load(tournamentId, false);
+    }
+
+    private TournamentProjection load(Long tournamentId, boolean guardarSnapshot) {
+        TournamentProjection proyeccion = snapshotRepository.findById(tournamentId)
+                .map(this::read)
+                .orElseGet(TournamentProjection::new);
+        long desde = proyeccion.getLastSeq();
+
+        List<TournamentEventDTO> lote;
+        do {
+            lote = eventService.eventsAfter(tournamentId, proyeccion.getLastSeq(), REPLAY_BATCH);
+            lote.forEach(proyeccion::apply);
+        } while (lote.size() == REPLAY_BATCH);
+
+        if (guardarSnapshot && proyeccion.getLastSeq() - desde >= SNAPSHOT_EVERY) {
+            saveSnapshot(tournamentId, proyeccion);
+        }
+        return proyeccion;
+    }
+
+    private void saveSnapshot(Long tournamentId, TournamentProjection proyeccion) {
+        String estado;
+        try {
+            estado = objectMapper.writeValueAsString(proyeccion);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la proyección del torneo", e);
+        }
+        Long lastSeq = proyeccion.getLastSeq();
+        LocalDateTime ahora = LocalDateTime.now();
+        try {
+            snapshotTx.executeWithoutResult(status -> {
+                if (snapshotRepository.advance(tournamentId, lastSeq, estado, ahora) == 0) {
+                    snapshotRepository.insertIfAbsent(tournamentId, lastSeq, estado, ahora);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Otra lectura insertó el primer snapshot al mismo tiempo; solo se deshizo esta transacción
+        }
+    }
+
+    private TournamentProjection read(TournamentSnapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.getState(), TournamentProjection.class);
+        } catch (JsonProcessingException e) {
+            // Un snapshot ilegible (por ejemplo de una versión anterior) se descarta y se reproduce todo
+            return new TournamentProjection();
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.torneo.api.services;
+
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.TournamentResponseDTO;
+import com.torneo.api.dto.TournamentSearchDTO;
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+import com.torneo.api.repository.TournamentRepository;
+import com.torneo.api.repository.projections.TournamentSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria para la búsqueda facetada de torneos.
+ *
+ * ✔ Cada torneo ocupa una posición (slot); cada término guarda un BitSet con los slots
+ *   que lo contienen: palabras del juego y del nombre, categoría, estado y mes de inicio.
+ * ✔ Un filtro es un AND/OR de BitSets y el conteo de facetas es cardinality() de una
+ *   intersección: no se recorre ningún torneo ni se consulta la base.
+ * ✔ TournamentService avisa cada alta, edición, cambio de estado y baja; el índice se
+ *   actualiza después del commit, así nunca muestra datos que terminaron en rollback.
+ * ✔ Se carga completo la primera vez que se consulta, en páginas keyset de 1000 filas.
+ *
+ * Los slots de torneos borrados no se reutilizan: solo se apagan en el BitSet de vivos.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentSearchIndex {
+
+    public static final String FACET_CATEGORY = "category";
+    public static final String FACET_STATE = "state";
+    public static final String FACET_START_MONTH = "startMonth";
+
+    private static final int LOAD_BATCH = 1000;
+
+    private final TournamentRepository tournamentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Todo lo que sigue se protege con lock
+    private boolean loaded;
+    private final List<TournamentResponseDTO> docs = new ArrayList<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final BitSet vivos = new BitSet();
+    private final TreeMap<String, BitSet> terms = new TreeMap<>();
+    private final Map<GamesCategory, BitSet> byCategory = new EnumMap<>(GamesCategory.class);
+    private final Map<GamesState, BitSet> byState = new EnumMap<>(GamesState.class);
+    private final TreeMap<YearMonth, BitSet> byStartMonth = new TreeMap<>();
+
+    /**
+     * Filtros de una búsqueda. Los valores dentro de una misma dimensión se combinan con OR
+     * y las dimensiones entre sí con AND. Un filtro null o vacío no restringe.
+     */
+    public record Query(String text,
+                        Collection<GamesCategory> categories,
+                        Collection<GamesState> states,
+                        LocalDate startFrom,
+                        LocalDate startTo,
+                        String sort,
+                        int page,
+                        Integer size) {
+    }
+
+    public TournamentSearchDTO search(Query query) {
+        long inicio = System.nanoTime();
+        ensureLoaded();
+        int pageSize = CursorPageDTO.clampSize(query.size());
+        int page = Math.max(0, query.page());
+        Comparator<TournamentResponseDTO> orden = comparator(query.sort());
+
+        lock.readLock().lock();
+        try {
+            BitSet texto = textFilter(query.text());
+            BitSet categoria = enumFilter(byCategory, query.categories());
+            BitSet estado = enumFilter(byState, query.states());
+            BitSet fecha = dateFilter(query.startFrom(), query.startTo());
+
+            BitSet resultado = and(texto, categoria, estado, fecha);
+
+            // Facetas disyuntivas: cada dimensión se cuenta sin su propio filtro
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(FACET_CATEGORY, count(byCategory, and(texto, estado, fecha)));
+            facets.put(FACET_STATE, count(byState, and(texto, categoria, fecha)));
+            facets.put(FACET_START_MONTH, count(byStartMonth, and(texto, categoria, estado)));
+
+            List<TournamentResponseDTO> items = resultado.stream()
+                    .mapToObj(docs::get)
+                    .sorted(orden)
+                    .skip((long) page * pageSize)
+                    .limit(pageSize)
+                    .toList();
+
+            return TournamentSearchDTO.builder()
+                    .total(resultado.cardinality())
+                    .page(page)
+                    .size(items.size())
+                    .items(items)
+                    .facets(facets)
+                    .tookMicros((System.nanoTime() - inicio) / 1_000)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega o reemplaza un torneo en el índice cuando la transacción actual confirma.
+     */
+    public void put(TournamentResponseDTO tournament) {
+        AfterCommit.run(() -> write(() -> upsert(tournament)));
+    }
+
+    /**
+     * Cambia solo el estado de un torneo ya indexado (lo usa transition()).
+     */
+    public void changeState(Long tournamentId, GamesState state) {
+        AfterCommit.run(() -> write(() -> {
+            Integer slot = slotById.get(tournamentId);
+            if (slot == null) {
+                return;
+            }
+            TournamentResponseDTO actual = docs.get(slot);
+            byState.get(actual.getState()).clear(slot);
+            TournamentResponseDTO nuevo = copy(actual);
+            nuevo.setState(state);
+            docs.set(slot, nuevo);
+            byState.computeIfAbsent(state, s -> new BitSet()).set(slot);
+        }));
+    }
+
+    public void remove(Long tournamentId) {
+        AfterCommit.run(() -> write(() -> {
+            Integer slot = slotById.remove(tournamentId);
+            if (slot != null) {
+                unindex(slot);
+                docs.set(slot, null);
+            }
+        }));
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Se carga con el lock de escritura tomado: una escritura que confirma durante la carga
+        // espera y se aplica encima, en vez de perderse entre dos páginas
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            DataSourceRouting.runOnPrimary(this::load);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() {
+        long afterId = 0;
+        List<TournamentSummary> filas;
+        do {
+            filas = tournamentRepository.findPageAfter(afterId, PageRequest.ofSize(LOAD_BATCH));
+            for (TournamentSummary t : filas) {
+                upsert(TournamentResponseDTO.builder()
+                        .id(t.getId())
+                        .name(t.getName())
+                        .game(t.getGame())
+                        .category(t.getCategory())
+                        .state(t.getState())
+                        .startDate(t.getStartDate())
+                        .maxTeams(t.getMaxTeams())
+                        .build());
+                afterId = t.getId();
+            }
+        } while (filas.size() == LOAD_BATCH);
+    }
+
+    /**
+     * Aplica una escritura. Si el índice todavía no se cargó no hace nada:
+     * la carga inicial va a leer el dato ya confirmado de la base.
+     */
+    private void write(Runnable cambio) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                cambio.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void upsert(TournamentResponseDTO tournament) {
+        Integer slot = slotById.get(tournament.getId());
+        if (slot == null) {
+            slot = docs.size();
+            docs.add(null);
+            slotById.put(tournament.getId(), slot);
+        } else {
+            unindex(slot);
+        }
+        TournamentResponseDTO doc = copy(tournament);
+        docs.set(slot, doc);
+
+        vivos.set(slot);
+        for (String token : tokens(doc.getName() + " " + doc.getGame())) {
+            terms.computeIfAbsent(token, k -> new BitSet()).set(slot);
+        }
+        byCategory.computeIfAbsent(doc.getCategory(), k -> new BitSet()).set(slot);
+        byState.computeIfAbsent(doc.getState(), k -> new BitSet()).set(slot);
+        if (doc.getStartDate() != null) {
+            byStartMonth.computeIfAbsent(YearMonth.from(doc.getStartDate()), k -> new BitSet()).set(slot);
+        }
+    }
+
+    private void unindex(int slot) {
+        TournamentResponseDTO doc = docs.get(slot);
+        vivos.clear(slot);
+        if (doc == null) {
+            return;
+        }
+        for (String token : tokens(doc.getName() + " " + doc.getGame())) {
+            BitSet postings = terms.get(token);
+            if (postings != null) {
+                postings.clear(slot);
+                if (postings.isEmpty()) {
+                    terms.remove(token);
+                }
+            }
+        }
+        byCategory.get(doc.getCategory()).clear(slot);
+        byState.get(doc.getState()).clear(slot);
+        if (doc.getStartDate() != null) {
+            byStartMonth.get(YearMonth.from(doc.getStartDate())).clear(slot);
+        }
+    }
+
+    /**
+     * Todas las palabras tienen que aparecer; la última se toma como prefijo
+     * ("valo" encuentra "valorant") para poder buscar mientras se escribe.
+     */
+    private BitSet textFilter(String text) {
+        List<String> tokens = tokens(text);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        BitSet resultado = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            BitSet postings;
+            if (i == tokens.size() - 1) {
+                postings = new BitSet();
+                for (BitSet b : terms.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                    postings.or(b);
+                }
+            } else {
+                postings = terms.getOrDefault(token, new BitSet());
+            }
+            resultado = and(resultado, postings);
+        }
+        return resultado;
+    }
+
+    private static <E extends Enum<E>> BitSet enumFilter(Map<E, BitSet> postings, Collection<E> valores) {
+        if (valores == null || valores.isEmpty()) {
+            return null;
+        }
+        BitSet resultado = new BitSet();
+        for (E valor : valores) {
+            BitSet b = postings.get(valor);
+            if (b != null) {
+                resultado.or(b);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Une los meses completos del rango y, en los meses de los extremos, descarta los
+     * torneos que caen fuera del día pedido. Los torneos sin fecha quedan fuera.
+     */
+    private BitSet dateFilter(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("La fecha desde no puede ser posterior a la fecha hasta.");
+        }
+        NavigableMap<YearMonth, BitSet> meses = byStartMonth;
+        if (from != null) {
+            meses = meses.tailMap(YearMonth.from(from), true);
+        }
+        if (to != null) {
+            meses = meses.headMap(YearMonth.from(to), true);
+        }
+        BitSet resultado = new BitSet();
+        for (Map.Entry<YearMonth, BitSet> mes : meses.entrySet()) {
+            boolean borde = (from != null && mes.getKey().equals(YearMonth.from(from)))
+                    || (to != null && mes.getKey().equals(YearMonth.from(to)));
+            if (!borde) {
+                resultado.or(mes.getValue());
+                continue;
+            }
+            mes.getValue().stream().forEach(slot -> {
+                LocalDate inicio = docs.get(slot).getStartDate();
+                if ((from == null || !inicio.isBefore(from)) && (to == null || !inicio.isAfter(to))) {
+                    resultado.set(slot);
+                }
+            });
+        }
+        return resultado;
+    }
+
+    /**
+     * Intersección de los filtros activos; null significa "sin filtro" (todos los vivos).
+     */
+    private BitSet and(BitSet... filtros) {
+        BitSet resultado = null;
+        for (BitSet filtro : filtros) {
+            if (filtro == null) {
+                continue;
+            }
+            if (resultado == null) {
+                resultado = (BitSet) filtro.clone();
+            } else {
+                resultado.and(filtro);
+            }
+        }
+        if (resultado == null) {
+            return (BitSet) vivos.clone();
+        }
+        resultado.and(vivos);
+        return resultado;
+    }
+
+    private static Map<String, Integer> count(Map<?, BitSet> postings, BitSet base) {
+        Map<String, Integer> conteos = new LinkedHashMap<>();
+        for (Map.Entry<?, BitSet> entry : postings.entrySet()) {
+            BitSet interseccion = (BitSet) entry.getValue().clone();
+            interseccion.and(base);
+            int cantidad = interseccion.cardinality();
+            if (cantidad > 0) {
+                conteos.put(entry.getKey().toString(), cantidad);
+            }
+        }
+        return conteos;
+    }
+
+    /**
+     * Orden pedido por el cliente: id, name o startDate, con "-" adelante para descendente.
+     * Los torneos sin fecha van al final y el ID desempata.
+     */
+    private static Comparator<TournamentResponseDTO> comparator(String sort) {
+        String campo = sort == null || sort.isBlank() ? "id" : sort.trim();
+        boolean desc = campo.startsWith("-");
+        if (desc) {
+            campo = campo.substring(1);
+        }
+        Comparator<TournamentResponseDTO> orden = switch (campo) {
+            case "id" -> Comparator.comparing(TournamentResponseDTO::getId);
+            case "name" -> Comparator.comparing(TournamentResponseDTO::getName, String.CASE_INSENSITIVE_ORDER);
+            case "startDate" -> Comparator.comparing(TournamentResponseDTO::getStartDate,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("Orden inválido: " + sort);
+        };
+        if (desc) {
+            orden = orden.reversed();
+        }
+        return orden.thenComparing(TournamentResponseDTO::getId);
+    }
+
+    /**
+     * Pasa el texto a minúsculas sin acentos y lo separa en palabras alfanuméricas.
+     */
+    static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalizado = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalizado.split("[^\\p{Alnum}]+"))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static TournamentResponseDTO copy(TournamentResponseDTO t) {
+        return TournamentResponseDTO.builder()
+                .id(t.getId())
+                .name(t.getName())
+                .game(t.getGame())
+                .category(t.getCategory())
+                .state(t.getState())
+                .startDate(t.getStartDate())
+                .endDate(t.getEndDate())
+                .maxTeams(t.getMaxTeams())
+                .build();
+    }
+}
@@ -1,24 +1,40 @@
 package com.torneo.api.services;
 
+import com.torneo.api.config.DataSourceRouting;
+import com.torneo.api.dto.CursorPageDTO;
+import com.torneo.api.dto.TournamentEventPayload;
 import com.torneo.api.dto.TournamentRequestDTO;
 import com.torneo.api.dto.TournamentResponseDTO;
+import com.torneo.api.dto.TournamentSearchDTO;
 import com.torneo.api.enums.GamesCategory;
 import com.torneo.api.enums.GamesState;
+import com.torneo.api.enums.TournamentEventType;
+import com.torneo.api.exceptions.ConflictException;
 import com.torneo.api.exceptions.NotFoundException;
+import com.torneo.api.exceptions.UnprocessableException;
 import com.torneo.api.models.Tournament;
 import com.torneo.api.models.User;
+import com.torneo.api.repository.InscriptionRepository;
+import com.torneo.api.repository.MatchRepository;
+import com.torneo.api.repository.ResultRepository;
 import com.torneo.api.repository.TournamentRepository;
 import com.torneo.api.repository.UserRepository;
+import com.torneo.api.repository.projections.TournamentSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Servicio que gestiona la lógica de negocio relacionada a torneos.
  * ✔ Se agregó validación de cupo permitido (2, 4, 8 o 16).
  * ✔ Se reflejó el campo maxTeams en los DTOs.
+ * ✔ Los listados públicos se sirven desde TournamentCatalogCache; cada escritura lo invalida.
+ * ✔ El estado solo cambia con transition(): un UPDATE condicional que no espera locks y
+ *   le dice a quien llama si ganó la transición.
+ * ✔ Cada escritura también actualiza TournamentSearchIndex, que responde la búsqueda facetada.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +42,14 @@ public class TournamentService {
 
     private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
+    private final ReferenceCacheService referenceCacheService;
+    private final TournamentCatalogCache catalogCache;
+    private final TournamentVersions tournamentVersions;
+    private final TournamentEventService eventService;
+    private final TournamentSearchIndex searchIndex;
+    private final MatchRepository matchRepository;
+    private final ResultRepository resultRepository;
+    private final InscriptionRepository inscriptionRepository;
 
     public TournamentResponseDTO createTournament(TournamentRequestDTO dto) {
         validarCupo(dto.getMaxTeams());
@@ -40,7 +64,10 @@ public class TournamentService {
                 .startDate(null)
                 .build();
 
-        return mapToResponseDTO(tournamentRepository.save(tournament));
+        TournamentResponseDTO creado = mapToResponseDTO(tournamentRepository.save(tournament));
+        catalogCache.invalidate();
+        searchIndex.put(creado);
+        return creado;
     }
 
     public TournamentResponseDTO updateTournament(Long id, TournamentRequestDTO dto) {
@@ -49,50 +76,126 @@ public class TournamentService {
         Tournament tournament = tournamentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
 
+        // Con partidos generados, cambiar cupo o datos dejaría el torneo inconsistente
+        if (tournament.getState() != GamesState.INSCRIPTION) {
+            throw new ConflictException("Solo se puede editar un torneo en inscripción.");
+        }
+
         tournament.setName(dto.getName());
         tournament.setGame(dto.getGame());
         tournament.setCategory(dto.getCategory());
-        tournament.setState(GamesState.INSCRIPTION);
         tournament.setStartDate(null);
         tournament.setEndDate(null);
         tournament.setMaxTeams(dto.getMaxTeams());
 
-        return mapToResponseDTO(tournamentRepository.save(tournament));
+        Tournament actualizado = tournamentRepository.save(tournament);
+        referenceCacheService.evictTournament(id);
+        catalogCache.invalidate();
+        tournamentVersions.bump(id);
+        TournamentResponseDTO respuesta = mapToResponseDTO(actualizado);
+        searchIndex.put(respuesta);
+        return respuesta;
     }
 
-    public List<TournamentResponseDTO> getAllTournaments() {
-        return tournamentRepository.findAll().stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    /**
+     * Devuelve la página del catálogo ya serializada para la combinación de filtros pedida.
+     * La página se arma por keyset (ID ascendente) y con tamaño acotado.
+     */
+    public TournamentCatalogCache.CatalogEntry getCatalog(GamesState state, GamesCategory category,
+                                                         String cursor, Integer size) {
+        long afterId = CursorPageDTO.decodeCursor(cursor);
+        int pageSize = CursorPageDTO.clampSize(size);
+        String key = state + "|" + category + "|" + afterId + "|" + pageSize;
+        return catalogCache.getOrLoad(key,
+                () -> DataSourceRouting.onPrimary(() -> loadCatalog(state, category, afterId, pageSize)));
     }
 
-    public TournamentResponseDTO getTournamentById(Long id) {
-        Tournament tournament = tournamentRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
-        return mapToResponseDTO(tournament);
+    private CursorPageDTO<TournamentResponseDTO> loadCatalog(GamesState state, GamesCategory category,
+                                                             long afterId, int pageSize) {
+        PageRequest limite = PageRequest.ofSize(pageSize + 1);
+        List<TournamentSummary> filas;
+        if (state != null) {
+            filas = tournamentRepository.findPageByStateAfter(state, afterId, limite);
+        } else if (category != null) {
+            filas = tournamentRepository.findPageByCategoryAfter(category, afterId, limite);
+        } else {
+            filas = tournamentRepository.findPageAfter(afterId, limite);
+        }
+        List<TournamentResponseDTO> dtos = filas.stream()
+                .map(t -> TournamentResponseDTO.builder()
+                        .id(t.getId())
+                        .name(t.getName())
+                        .game(t.getGame())
+                        .category(t.getCategory())
+                        .state(t.getState())
+                        .startDate(t.getStartDate())
+                        .maxTeams(t.getMaxTeams())
+                        .build())
+                .toList();
+        return CursorPageDTO.of(dtos, pageSize, TournamentResponseDTO::getId);
     }
 
-    public List<TournamentResponseDTO> getByState(GamesState state) {
-        return tournamentRepository.findByState(state).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    /**
+     * Búsqueda facetada sobre el índice en memoria: texto libre sobre juego y nombre,
+     * categorías, estados y rango de fecha de inicio, con conteos por faceta.
+     */
+    public TournamentSearchDTO search(TournamentSearchIndex.Query query) {
+        return searchIndex.search(query);
     }
 
-    public List<TournamentResponseDTO> getByCategory(GamesCategory category) {
-        return tournamentRepository.findByCategory(category).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public TournamentResponseDTO getTournamentById(Long id) {
+        Tournament tournament = tournamentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Torneo no encontrado"));
+        return mapToResponseDTO(tournament);
     }
 
+    @Transactional
     public void deleteTournament(Long id) {
+        // Con el torneo tomado, ningún partido, resultado o inscripción nueva se confirma entre el
+        // control y el borrado (una inscripción en curso espera la fila del torneo y encuentra 0 filas)
+        eventService.lockTournaments(List.of(id));
         if (!tournamentRepository.existsById(id)) {
             throw new NotFoundException("Torneo no encontrado");
         }
+        // Las tablas particionadas no tienen claves foráneas: sin este control quedarían filas huérfanas
+        if (inscriptionRepository.existsByTournament_Id(id) || matchRepository.existsByTournament_Id(id)
+                || resultRepository.existsByTournament_Id(id)) {
+            throw new ConflictException("El torneo tiene inscripciones, partidos o resultados.");
+        }
         tournamentRepository.deleteById(id);
+        referenceCacheService.evictTournament(id);
+        catalogCache.invalidate();
+        tournamentVersions.bump(id);
+        searchIndex.remove(id);
     }
 
-    public void update(Tournament tournament) {
-        tournamentRepository.save(tournament);
+    /**
+     * Pasa el torneo de un estado a otro si todavía está en el estado esperado.
+     * Devuelve false si otra petición ya lo cambió: quien llama solo dispara los efectos
+     * de la transición (fases, emails) cuando recibe true, así ocurren una sola vez.
+     */
+    @Transactional
+    public boolean transition(Long id, GamesState from, GamesState to) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalStateException("Transición de estado inválida: " + from + " → " + to);
+        }
+        if (tournamentRepository.transitionState(id, from, to) == 0) {
+            return false;
+        }
+        eventService.append(id, TournamentEventType.STATE_CHANGED, TournamentEventPayload.builder()
+                .fromState(from)
+                .toState(to)
+                .build());
+        // Caches e índice se tocan recién con el estado confirmado: antes, una lectura concurrente
+        // volvería a cargar el estado viejo y lo dejaría cacheado
+        AfterCommit.run(() -> {
+            referenceCacheService.evictTournament(id);
+            catalogCache.invalidate();
+            searchIndex.changeState(id, to);
+        });
+        tournamentVersions.bump(id);
+        return true;
     }
 
     private TournamentResponseDTO mapToResponseDTO(Tournament t) {
@@ -110,7 +213,7 @@ public class TournamentService {
     private void validarCupo(Integer maxTeams) {
         List<Integer> validos = List.of(2, 4, 8, 16);
         if (!validos.contains(maxTeams)) {
-            throw new IllegalArgumentException("El cupo debe ser 2, 4, 8 o 16.");
+            throw new UnprocessableException("El cupo debe ser 2, 4, 8 o 16.");
         }
     }
 }
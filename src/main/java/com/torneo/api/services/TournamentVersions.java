@@ -0,0 +1,38 @@
+package com.torneo.api.services;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versión en memoria de los datos de cada torneo.
+ *
+ * ✔ Los servicios llaman a bump(id) después de modificar el torneo, sus inscripciones,
+ *   partidos o resultados; los datos derivados (detalle, predicciones) se cachean por versión.
+ * ✔ Los cambios de equipos o planteles pueden tocar cualquier torneo, por eso usan bumpAll().
+ * ✔ Si hay una transacción en curso, el incremento se hace después del commit: así una lectura
+ *   concurrente nunca guarda datos viejos con la versión nueva.
+ *
+ * La versión de un torneo es la suma del contador propio y el global; solo crece.
+ */
+@Component
+public class TournamentVersions {
+
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(Long tournamentId) {
+        AtomicLong propia = versions.get(tournamentId);
+        return global.get() + (propia == null ? 0 : propia.get());
+    }
+
+    public void bump(Long tournamentId) {
+        AfterCommit.run(() -> versions.computeIfAbsent(tournamentId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    public void bumpAll() {
+        AfterCommit.run(global::incrementAndGet);
+    }
+}
@@ -0,0 +1,11 @@
+-- ==================================
+--  Cupo de inscripción en la fila del torneo
+--  Cada inscripción ocupa un lugar con un solo UPDATE condicional
+--  (inscribed < max_teams): si no actualiza ninguna fila, el cupo está completo.
+-- ==================================
+
+ALTER TABLE tournaments ADD COLUMN inscribed INT NOT NULL DEFAULT 0;
+
+UPDATE tournaments SET inscribed = (
+    SELECT COUNT(*) FROM inscriptions WHERE inscriptions.tournament_id = tournaments.id
+);
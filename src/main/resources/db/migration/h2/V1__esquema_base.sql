@@ -0,0 +1,104 @@
+-- ==================================
+--  Esquema base (H2)
+--  Reemplaza a ddl-auto=update. Los CREATE usan IF NOT EXISTS para que
+--  una base creada antes por Hibernate quede adoptada sin tocar datos.
+--  Los enums (@Enumerated(STRING)) son VARCHAR con CHECK: el H2Dialect
+--  los valida como VARCHAR y rechaza el tipo ENUM de H2.
+-- ==================================
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT       NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ck_users_role CHECK (role IN ('ADMIN','ORGANIZER','PLAYER')),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tournaments (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    game       VARCHAR(50)  NOT NULL,
+    category   VARCHAR(20)  NOT NULL,
+    state      VARCHAR(20)  NOT NULL,
+    start_date DATE NULL,
+    end_date   DATE NULL,
+    max_teams  INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ck_tournaments_category CHECK (category IN ('RPG','SHOOTER','SPORTS','SURVIVALHORROR','BUILDER')),
+    CONSTRAINT ck_tournaments_state CHECK (state IN ('ACTIVE','FINISHED','INSCRIPTION'))
+);
+
+CREATE TABLE IF NOT EXISTS teams (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    captain_id BIGINT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_teams_name UNIQUE (name),
+    CONSTRAINT fk_teams_captain FOREIGN KEY (captain_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS team_xplayer (
+    id         BIGINT NOT NULL,
+    team_id    BIGINT NOT NULL,
+    player_id  BIGINT NOT NULL,
+    is_captain BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_txp_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_txp_player FOREIGN KEY (player_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS inscriptions (
+    id            BIGINT NOT NULL,
+    team_id       BIGINT NOT NULL,
+    tournament_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_inscriptions_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_inscriptions_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id)
+);
+
+-- match_date solo lo usa MatchEntity; Match no lo completa, por eso es NULL
+CREATE TABLE IF NOT EXISTS matches (
+    id                BIGINT       NOT NULL,
+    tournament_id     BIGINT       NOT NULL,
+    first_team_id     BIGINT       NOT NULL,
+    second_team_id    BIGINT       NOT NULL,
+    first_team_score  INT          NOT NULL,
+    second_team_score INT          NOT NULL,
+    status            VARCHAR(255) NOT NULL,
+    match_date        DATE NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_matches_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    CONSTRAINT fk_matches_first_team FOREIGN KEY (first_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_matches_second_team FOREIGN KEY (second_team_id) REFERENCES teams (id)
+);
+
+-- match_id sin FK: ResultService borra el partido al registrar el resultado
+CREATE TABLE IF NOT EXISTS results (
+    id                BIGINT NOT NULL,
+    tournament_id     BIGINT NOT NULL,
+    winner_team_id    BIGINT NOT NULL,
+    loser_team_id     BIGINT NOT NULL,
+    score_winner_team INT    NOT NULL,
+    score_loser_team  INT    NOT NULL,
+    match_id          BIGINT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_results_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    CONSTRAINT fk_results_winner FOREIGN KEY (winner_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_results_loser FOREIGN KEY (loser_team_id) REFERENCES teams (id)
+);
+
+-- ==================================
+--  Secuencias nativas. Hibernate (pooled) espera START WITH 1 INCREMENT BY 50.
+-- ==================================
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tournaments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS teams_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS team_xplayer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS inscriptions_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS matches_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS results_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,32 @@
+-- ==================================
+--  Indices para las consultas frecuentes de los repositorios
+--  H2 guarda la PK en cada indice secundario, asi que los indices que
+--  incluyen todas las columnas filtradas resuelven la consulta sin ir a la tabla.
+-- ==================================
+
+-- MatchRepository.findByTournamentId + filtro por status en PhaseService
+CREATE INDEX idx_matches_tournament_status ON matches (tournament_id, status);
+CREATE INDEX idx_matches_first_team ON matches (first_team_id);
+CREATE INDEX idx_matches_second_team ON matches (second_team_id);
+
+-- InscriptionRepository.findByTournamentId y findByTeam_IdAndTournament_Id.
+-- Ademas impide inscripciones duplicadas a nivel base.
+CREATE UNIQUE INDEX uk_inscriptions_tournament_team ON inscriptions (tournament_id, team_id);
+-- InscriptionRepository.findByTeamId
+CREATE INDEX idx_inscriptions_team_tournament ON inscriptions (team_id, tournament_id);
+
+-- TeamXPlayerRepository.findByUser_IdAndTeamEntity_Id (un jugador no puede repetirse en un equipo)
+CREATE UNIQUE INDEX uk_txp_player_team ON team_xplayer (player_id, team_id);
+-- TeamXPlayerRepository.findByTeamEntity_Id: cubre el plantel completo con el flag de capitan
+CREATE INDEX idx_txp_team_player_captain ON team_xplayer (team_id, player_id, is_captain);
+
+-- TournamentRepository.findByState / findByCategory / findByStartDate
+CREATE INDEX idx_tournaments_state_category_start ON tournaments (state, category, start_date);
+CREATE INDEX idx_tournaments_category_state ON tournaments (category, state);
+CREATE INDEX idx_tournaments_start_date ON tournaments (start_date);
+
+CREATE INDEX idx_results_tournament ON results (tournament_id);
+CREATE INDEX idx_results_winner ON results (winner_team_id);
+CREATE INDEX idx_results_loser ON results (loser_team_id);
+
+CREATE INDEX idx_teams_captain ON teams (captain_id);
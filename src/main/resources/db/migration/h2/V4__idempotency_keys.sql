@@ -0,0 +1,16 @@
+-- ==================================
+--  Claves de idempotencia (cabecera Idempotency-Key)
+--  Se guardan en la misma transaccion que la escritura; la PK evita
+--  que dos reintentos simultaneos registren la escritura dos veces.
+-- ==================================
+
+CREATE TABLE idempotency_keys (
+    id            VARCHAR(200) NOT NULL,
+    request_hash  VARCHAR(64)  NOT NULL,
+    response_body CLOB         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- IdempotencyService.purgeExpired borra por antiguedad
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
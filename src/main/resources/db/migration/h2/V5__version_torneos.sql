@@ -0,0 +1,6 @@
+-- ==================================
+--  Bloqueo optimista de torneos (@Version en Tournament)
+--  Las transiciones de estado incrementan la version en el mismo UPDATE.
+-- ==================================
+
+ALTER TABLE tournaments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+-- ==================================
+--  Archivo de torneos finalizados
+--  Un documento JSON comprimido con gzip por torneo (llave, planteles,
+--  posiciones y resultados). Se escribe una sola vez al finalizar.
+-- ==================================
+
+CREATE TABLE tournament_archives (
+    tournament_id BIGINT       NOT NULL,
+    document      BLOB         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (tournament_id)
+);
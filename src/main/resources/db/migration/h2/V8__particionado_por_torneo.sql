@@ -0,0 +1,17 @@
+-- ==================================
+--  Particionado por torneo de matches, results e inscriptions
+--  H2 no particiona tablas: solo se quitan las claves foraneas para que las
+--  reglas de integridad sean las mismas que en MySQL (las controlan
+--  TournamentService y TeamService antes de borrar).
+-- ==================================
+
+ALTER TABLE matches DROP CONSTRAINT fk_matches_tournament;
+ALTER TABLE matches DROP CONSTRAINT fk_matches_first_team;
+ALTER TABLE matches DROP CONSTRAINT fk_matches_second_team;
+
+ALTER TABLE results DROP CONSTRAINT fk_results_tournament;
+ALTER TABLE results DROP CONSTRAINT fk_results_winner;
+ALTER TABLE results DROP CONSTRAINT fk_results_loser;
+
+ALTER TABLE inscriptions DROP CONSTRAINT fk_inscriptions_team;
+ALTER TABLE inscriptions DROP CONSTRAINT fk_inscriptions_tournament;
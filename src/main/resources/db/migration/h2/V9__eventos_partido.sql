@@ -0,0 +1,23 @@
+-- ==================================
+--  Eventos en vivo de cada partido (bajas, rondas, objetivos)
+--  Llegan por webhook a miles por segundo y se insertan por lotes
+--  (MatchEventIngestService); solo se insertan, nunca se modifican.
+--  H2 no particiona: misma PK que en MySQL (incluye tournament_id).
+--  team: 0 si el evento no es de un equipo, 1 o 2 segun el equipo del partido.
+--  points: cuanto suma el evento al marcador de ese equipo.
+-- ==================================
+
+CREATE TABLE match_events (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    tournament_id BIGINT       NOT NULL,
+    match_id      BIGINT       NOT NULL,
+    type          VARCHAR(20)  NOT NULL,
+    team          TINYINT      NOT NULL,
+    points        INT          NOT NULL,
+    detail        VARCHAR(200),
+    occurred_at   TIMESTAMP(6) NOT NULL,
+    received_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, tournament_id)
+);
+
+CREATE INDEX idx_match_events_match ON match_events (tournament_id, match_id, id);
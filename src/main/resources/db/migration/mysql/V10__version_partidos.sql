@@ -0,0 +1,7 @@
+-- ==================================
+--  Bloqueo optimista de partidos (@Version en Match)
+--  El guardado de eventos en vivo suma al marcador e incrementa la version en el
+--  mismo UPDATE: un PUT que leyo el partido antes falla en vez de pisar esos puntos.
+-- ==================================
+
+ALTER TABLE matches ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,129 @@
+-- ==================================
+--  Esquema base (MySQL)
+--  Reemplaza a ddl-auto=update. Los CREATE usan IF NOT EXISTS para que
+--  una base creada antes por Hibernate quede adoptada sin tocar datos.
+-- ==================================
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT       NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     ENUM ('ADMIN','ORGANIZER','PLAYER') NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS tournaments (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    game       VARCHAR(50)  NOT NULL,
+    category   ENUM ('RPG','SHOOTER','SPORTS','SURVIVALHORROR','BUILDER') NOT NULL,
+    state      ENUM ('ACTIVE','FINISHED','INSCRIPTION') NOT NULL,
+    start_date DATE NULL,
+    end_date   DATE NULL,
+    max_teams  INT          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS teams (
+    id         BIGINT       NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    captain_id BIGINT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_teams_name UNIQUE (name),
+    CONSTRAINT fk_teams_captain FOREIGN KEY (captain_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS team_xplayer (
+    id         BIGINT NOT NULL,
+    team_id    BIGINT NOT NULL,
+    player_id  BIGINT NOT NULL,
+    is_captain BIT(1) NOT NULL DEFAULT b'0',
+    PRIMARY KEY (id),
+    CONSTRAINT fk_txp_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_txp_player FOREIGN KEY (player_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS inscriptions (
+    id            BIGINT NOT NULL,
+    team_id       BIGINT NOT NULL,
+    tournament_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_inscriptions_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_inscriptions_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id)
+) ENGINE = InnoDB;
+
+-- match_date solo lo usa MatchEntity; Match no lo completa, por eso es NULL
+CREATE TABLE IF NOT EXISTS matches (
+    id                BIGINT       NOT NULL,
+    tournament_id     BIGINT       NOT NULL,
+    first_team_id     BIGINT       NOT NULL,
+    second_team_id    BIGINT       NOT NULL,
+    first_team_score  INT          NOT NULL,
+    second_team_score INT          NOT NULL,
+    status            VARCHAR(255) NOT NULL,
+    match_date        DATE NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_matches_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    CONSTRAINT fk_matches_first_team FOREIGN KEY (first_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_matches_second_team FOREIGN KEY (second_team_id) REFERENCES teams (id)
+) ENGINE = InnoDB;
+
+-- match_id sin FK: ResultService borra el partido al registrar el resultado
+CREATE TABLE IF NOT EXISTS results (
+    id                BIGINT NOT NULL,
+    tournament_id     BIGINT NOT NULL,
+    winner_team_id    BIGINT NOT NULL,
+    loser_team_id     BIGINT NOT NULL,
+    score_winner_team INT    NOT NULL,
+    score_loser_team  INT    NOT NULL,
+    match_id          BIGINT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_results_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    CONSTRAINT fk_results_winner FOREIGN KEY (winner_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_results_loser FOREIGN KEY (loser_team_id) REFERENCES teams (id)
+) ENGINE = InnoDB;
+
+-- ==================================
+--  Secuencias (emuladas con tabla en MySQL)
+--  Hibernate usa el optimizador pooled: el valor guardado es el techo del
+--  siguiente bloque, por eso se arranca en MAX(id) + 51 para no pisar ids
+--  existentes generados antes con AUTO_INCREMENT.
+-- ==================================
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM users) m
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+
+CREATE TABLE IF NOT EXISTS tournaments_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tournaments_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM tournaments) m
+WHERE NOT EXISTS (SELECT 1 FROM tournaments_seq);
+
+CREATE TABLE IF NOT EXISTS teams_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO teams_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM teams) m
+WHERE NOT EXISTS (SELECT 1 FROM teams_seq);
+
+CREATE TABLE IF NOT EXISTS team_xplayer_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO team_xplayer_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM team_xplayer) m
+WHERE NOT EXISTS (SELECT 1 FROM team_xplayer_seq);
+
+CREATE TABLE IF NOT EXISTS inscriptions_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO inscriptions_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM inscriptions) m
+WHERE NOT EXISTS (SELECT 1 FROM inscriptions_seq);
+
+CREATE TABLE IF NOT EXISTS matches_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO matches_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM matches) m
+WHERE NOT EXISTS (SELECT 1 FROM matches_seq);
+
+CREATE TABLE IF NOT EXISTS results_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO results_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 51 AS next_val FROM results) m
+WHERE NOT EXISTS (SELECT 1 FROM results_seq);
@@ -0,0 +1,9 @@
+-- ==================================
+--  Indices para la paginacion por cursor del catalogo de torneos
+--  findPageByStateAfter / findPageByCategoryAfter filtran por una columna
+--  y recorren por id > :afterId ORDER BY id, asi que (columna, id) permite
+--  leer cada pagina como un rango contiguo del indice sin ordenar.
+-- ==================================
+
+CREATE INDEX idx_tournaments_state_keyset ON tournaments (state, id);
+CREATE INDEX idx_tournaments_category_keyset ON tournaments (category, id);
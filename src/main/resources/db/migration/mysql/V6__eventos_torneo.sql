@@ -0,0 +1,28 @@
+-- ==================================
+--  Registro de eventos por torneo (solo INSERT) y snapshots de proyecciones
+--  seq es correlativo dentro de cada torneo; la UNIQUE evita dos eventos con
+--  el mismo numero y sirve para leer "eventos despues de seq" por rango.
+-- ==================================
+
+CREATE TABLE tournament_events (
+    id            BIGINT        NOT NULL,
+    tournament_id BIGINT        NOT NULL,
+    seq           BIGINT        NOT NULL,
+    type          VARCHAR(40)   NOT NULL,
+    payload       VARCHAR(2000) NOT NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tournament_events_seq UNIQUE (tournament_id, seq)
+) ENGINE = InnoDB;
+
+CREATE TABLE tournament_events_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tournament_events_seq (next_val) VALUES (1);
+
+-- Ultimo estado de las proyecciones (posiciones y llaves) hasta last_seq
+CREATE TABLE tournament_snapshots (
+    tournament_id BIGINT      NOT NULL,
+    last_seq      BIGINT      NOT NULL,
+    state         LONGTEXT    NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (tournament_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,48 @@
+-- ==================================
+--  Particionado por torneo de matches, results e inscriptions
+--  Todas las consultas calientes filtran por tournament_id: con LINEAR HASH
+--  MySQL va directo a la particion del torneo y cada particion mantiene
+--  indices chicos aunque crezca el historial.
+--
+--  Restricciones de MySQL para tablas particionadas:
+--  * toda clave unica (incluida la PK) tiene que contener tournament_id;
+--  * no admiten claves foraneas: la integridad con torneos y equipos la
+--    controlan TournamentService y TeamService antes de borrar.
+--
+--  Las claves foraneas se buscan por nombre en information_schema: una base
+--  adoptada desde ddl-auto=update tiene los nombres que genero Hibernate.
+--
+--  LINEAR HASH permite agregar o juntar particiones reorganizando solo las
+--  afectadas (ver TournamentPartitionService.rebalance).
+-- ==================================
+
+SET @fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME))
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'matches' AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @ddl = IF(@fks IS NULL, 'DO 0', CONCAT('ALTER TABLE matches ', @fks));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE matches DROP PRIMARY KEY, ADD PRIMARY KEY (id, tournament_id);
+ALTER TABLE matches PARTITION BY LINEAR HASH (tournament_id) PARTITIONS 16;
+
+SET @fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME))
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'results' AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @ddl = IF(@fks IS NULL, 'DO 0', CONCAT('ALTER TABLE results ', @fks));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE results DROP PRIMARY KEY, ADD PRIMARY KEY (id, tournament_id);
+ALTER TABLE results PARTITION BY LINEAR HASH (tournament_id) PARTITIONS 16;
+
+-- uk_inscriptions_tournament_team ya incluye tournament_id
+SET @fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME))
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'inscriptions' AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @ddl = IF(@fks IS NULL, 'DO 0', CONCAT('ALTER TABLE inscriptions ', @fks));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE inscriptions DROP PRIMARY KEY, ADD PRIMARY KEY (id, tournament_id);
+ALTER TABLE inscriptions PARTITION BY LINEAR HASH (tournament_id) PARTITIONS 16;
@@ -0,0 +1,23 @@
+-- ==================================
+--  Eventos en vivo de cada partido (bajas, rondas, objetivos)
+--  Llegan por webhook a miles por segundo y se insertan por lotes
+--  (MatchEventIngestService); solo se insertan, nunca se modifican.
+--  Particionada por torneo como matches (ver V8): la PK incluye tournament_id.
+--  team: 0 si el evento no es de un equipo, 1 o 2 segun el equipo del partido.
+--  points: cuanto suma el evento al marcador de ese equipo.
+-- ==================================
+
+CREATE TABLE match_events (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    tournament_id BIGINT       NOT NULL,
+    match_id      BIGINT       NOT NULL,
+    type          VARCHAR(20)  NOT NULL,
+    team          TINYINT      NOT NULL,
+    points        INT          NOT NULL,
+    detail        VARCHAR(200) NULL,
+    occurred_at   DATETIME(6)  NOT NULL,
+    received_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id, tournament_id),
+    KEY idx_match_events_match (tournament_id, match_id, id)
+) ENGINE = InnoDB
+  PARTITION BY LINEAR HASH (tournament_id) PARTITIONS 16;
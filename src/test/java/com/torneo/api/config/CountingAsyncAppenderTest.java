@@ -0,0 +1,78 @@
+package com.torneo.api.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conteo de descartes de CountingAsyncAppender con la misma configuración que logback-spring.xml
+ * (neverBlock=true, discardingThreshold=0).
+ *
+ * ✔ El appender de destino se traba con el primer evento: el worker queda ocupado, la cola de
+ *   un lugar se llena con el segundo y todos los demás tienen que contarse como descartados.
+ */
+class CountingAsyncAppenderTest {
+
+    @Test
+    void cuentaCadaEventoQueLaColaRechaza() throws InterruptedException {
+        // El contexto de la aplicación: uno nuevo no tiene MDCAdapter y el evento falla al prepararse
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        TrabadoAppender destino = new TrabadoAppender();
+        destino.setContext(context);
+        destino.start();
+
+        CountingAsyncAppender async = new CountingAsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(1);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.addAppender(destino);
+        async.start();
+
+        long antes = CountingAsyncAppender.droppedCount();
+        try {
+            async.doAppend(evento(context));
+            assertThat(destino.recibido.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 100; i++) {
+                async.doAppend(evento(context));
+            }
+
+            // Uno quedó en la cola; los otros 99 los rechazó offer()
+            assertThat(CountingAsyncAppender.droppedCount() - antes).isEqualTo(99);
+        } finally {
+            destino.liberar.countDown();
+            async.stop();
+        }
+    }
+
+    private static ILoggingEvent evento(LoggerContext context) {
+        return new LoggingEvent(CountingAsyncAppenderTest.class.getName(), context.getLogger("test"),
+                Level.INFO, "evento", null, null);
+    }
+
+    private static final class TrabadoAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch recibido = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent eventObject) {
+            recibido.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
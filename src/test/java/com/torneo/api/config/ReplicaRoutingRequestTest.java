@@ -0,0 +1,89 @@
+package com.torneo.api.config;
+
+import com.torneo.api.dto.DataSourcePoolStatsDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ruteo a réplicas con dos H2 (primaria y réplica, bases independientes) y open-in-view activo.
+ *
+ * ✔ POST /api/teams lee los jugadores (findAllById, transacción de solo lectura: réplica) y
+ *   después guarda el equipo (escritura) en la misma petición. La escritura tiene que llegar
+ *   a la primaria aunque la sesión de Hibernate siga abierta desde la lectura.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primaria_ruteo;DB_CLOSE_DELAY=-1",
+        "torneo.datasource.replicas.enabled=true",
+        "torneo.datasource.replicas.pools[0].url=" + ReplicaRoutingRequestTest.REPLICA_URL,
+        "torneo.datasource.replicas.migrate=true",
+        "torneo.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingRequestTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_ruteo;DB_CLOSE_DELAY=-1";
+    private static final long JUGADOR = 1_000_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    private JdbcTemplate primaria;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void crearJugadorEnAmbasBases() {
+        primaria = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        for (JdbcTemplate base : new JdbcTemplate[]{primaria, replica}) {
+            base.update("DELETE FROM team_xplayer");
+            base.update("DELETE FROM teams");
+            base.update("DELETE FROM users WHERE id = ?", JUGADOR);
+            base.update("INSERT INTO users (id, username, password, role, email) VALUES (?, 'capitan', 'x', 'PLAYER', 'capitan@torneo.test')",
+                    JUGADOR);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "capitan", roles = "PLAYER")
+    void escrituraDespuesDeUnaLecturaVaALaPrimaria() throws Exception {
+        long lecturasEnReplica = lecturasEnReplica();
+
+        mockMvc.perform(post("/api/teams")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Los Replicados\",\"playerIds\":[" + JUGADOR + "]}"))
+                .andExpect(status().isOk());
+
+        assertThat(primaria.queryForObject("SELECT COUNT(*) FROM teams WHERE name = 'Los Replicados'", Integer.class))
+                .isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM teams", Integer.class)).isZero();
+        assertThat(lecturasEnReplica()).as("la lectura de los jugadores fue a la réplica").isGreaterThan(lecturasEnReplica);
+    }
+
+    private long lecturasEnReplica() {
+        return routing.stats().stream()
+                .filter(pool -> pool.getRole().equals("REPLICA"))
+                .mapToLong(DataSourcePoolStatsDTO::getCheckouts)
+                .sum();
+    }
+}
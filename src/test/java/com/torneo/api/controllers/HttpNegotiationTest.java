@@ -0,0 +1,67 @@
+package com.torneo.api.controllers;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Negociación de gzip a partir de Accept-Encoding y de 304 a partir de If-None-Match.
+ *
+ * ✔ Cuenta el valor q de cada codificación: q=0 significa "no aceptable", no "aceptable".
+ * ✔ Sin gzip en la lista decide el comodín; con gzip en la lista el comodín no importa.
+ * ✔ If-None-Match compara ETags completos: un prefijo o una subcadena no dan 304.
+ * ✔ "*" y el prefijo W/ coinciden; una lista mal formada no coincide con nada.
+ */
+class HttpNegotiationTest {
+
+    private static final String ETAG = "\"abc123\"";
+    private static final String GZIP_ETAG = "\"abc123-gz\"";
+
+    @ParameterizedTest(name = "[{index}] ''{0}'' -> {1}")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null                      | false",
+            "''                        | false",
+            "gzip                      | true",
+            "GZIP                      | true",
+            "gzip, deflate, br         | true",
+            "br;q=1.0, gzip;q=0.8      | true",
+            "x-gzip                    | true",
+            "gzip;q=0                  | false",
+            "gzip; q=0.000             | false",
+            "deflate, gzip;q=0         | false",
+            "identity                  | false",
+            "*                         | true",
+            "*;q=0                     | false",
+            "gzip;q=0, *               | false",
+            "gzip, *;q=0               | true",
+            "gzip;q=abc                | false",
+            "gzip;q=                   | false",
+            "gzip;q=2                  | false"
+    })
+    void aceptaGzipSoloConCalidadPositiva(String acceptEncoding, boolean esperado) {
+        assertThat(HttpNegotiation.aceptaGzip(acceptEncoding)).isEqualTo(esperado);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null                          | false",
+            "''                            | false",
+            "*                             | true",
+            "' * '                         | true",
+            "\"abc123\"                    | true",
+            "\"abc123-gz\"                 | true",
+            "W/\"abc123\"                  | true",
+            "\"otro\", \"abc123\"          | true",
+            "\"otro\",W/\"abc123-gz\"      | true",
+            "\"abc12\"                     | false",
+            "\"abc123-br\"                 | false",
+            "\"xabc123\"                   | false",
+            "abc123                        | false",
+            "\"abc123                      | false",
+            "\"otro\", *                   | false"
+    })
+    void coincideEtagSoloConValoresCompletos(String ifNoneMatch, boolean esperado) {
+        assertThat(HttpNegotiation.coincideEtag(ifNoneMatch, ETAG, GZIP_ETAG)).isEqualTo(esperado);
+    }
+}
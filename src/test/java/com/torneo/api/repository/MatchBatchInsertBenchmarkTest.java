@@ -0,0 +1,115 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+import com.torneo.api.models.Match;
+import com.torneo.api.models.TeamEntity;
+import com.torneo.api.models.Tournament;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de inserción de 4096 partidos en H2, con y sin batching de JDBC.
+ *
+ * ✔ "Sin lotes" fuerza jdbc.batch_size=1 en la sesión: un viaje a la base por fila, como con
+ *   GenerationType.IDENTITY. "Con lotes" usa la configuración de la aplicación (batch_size=50,
+ *   ids pooled de a 50).
+ * ✔ Lo que se verifica es la cantidad de sentencias preparadas (inserts + pedidos a la secuencia),
+ *   que no depende de la máquina; las filas por segundo solo se informan en el log.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class MatchBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchBatchInsertBenchmarkTest.class);
+
+    private static final int PARTIDOS = 4096;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void insertaLosPartidosEnLotes() {
+        Tournament torneo = Tournament.builder()
+                .name("Benchmark")
+                .game("Juego")
+                .category(GamesCategory.SPORTS)
+                .state(GamesState.ACTIVE)
+                .maxTeams(2)
+                .build();
+        entityManager.persist(torneo);
+        TeamEntity primero = TeamEntity.builder().name("Equipo A").build();
+        TeamEntity segundo = TeamEntity.builder().name("Equipo B").build();
+        entityManager.persist(primero);
+        entityManager.persist(segundo);
+        entityManager.flush();
+
+        // Calentamiento: que ninguna de las dos mediciones pague la carga de clases y el JIT
+        insertar(torneo, primero, segundo, 256, 1);
+        insertar(torneo, primero, segundo, 256, BATCH_SIZE);
+
+        Medicion sinLotes = insertar(torneo, primero, segundo, PARTIDOS, 1);
+        Medicion conLotes = insertar(torneo, primero, segundo, PARTIDOS, BATCH_SIZE);
+
+        log.info("Insertar {} partidos: sin lotes {} filas/s ({} sentencias), con lotes {} filas/s ({} sentencias)",
+                PARTIDOS, sinLotes.filasPorSegundo(), sinLotes.sentencias(),
+                conLotes.filasPorSegundo(), conLotes.sentencias());
+
+        assertThat(sinLotes.sentencias()).isGreaterThanOrEqualTo(PARTIDOS);
+        // Un INSERT por lote de 50 y un pedido a la secuencia cada 50 ids
+        int lotes = (PARTIDOS + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertThat(conLotes.sentencias()).isLessThanOrEqualTo(2L * lotes + 2);
+        assertThat(matchRepository.findByTournamentId(torneo.getId())).hasSize(2 * 256 + 2 * PARTIDOS);
+    }
+
+    private Medicion insertar(Tournament torneo, TeamEntity primero, TeamEntity segundo, int cantidad, int batchSize) {
+        List<Match> partidos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            partidos.add(Match.builder()
+                    .tournament(torneo)
+                    .firstTeam(primero)
+                    .secondTeam(segundo)
+                    .firstTeamScore(0)
+                    .secondTeamScore(0)
+                    .status("PENDIENTE")
+                    .build());
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        Statistics estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        session.setJdbcBatchSize(batchSize);
+        estadisticas.clear();
+        long inicio = System.nanoTime();
+        try {
+            matchRepository.saveAll(partidos);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(null);
+        }
+        long nanos = System.nanoTime() - inicio;
+        entityManager.clear();
+        return new Medicion(estadisticas.getPrepareStatementCount(), cantidad * 1_000_000_000L / Math.max(nanos, 1));
+    }
+
+    private record Medicion(long sentencias, long filasPorSegundo) {
+    }
+}
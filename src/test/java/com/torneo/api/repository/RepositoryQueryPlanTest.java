@@ -0,0 +1,121 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica en H2 que las consultas de los repositorios más usados siguen resolviéndose con
+ * los índices de las migraciones (V2 y V3).
+ *
+ * ✔ Se ejecuta el método del repositorio, se captura el SQL que generó Hibernate y se pide
+ *   su plan con EXPLAIN: si alguien borra o cambia un índice, o la consulta deja de filtrar
+ *   por las columnas indexadas, el plan cambia y el test falla.
+ * ✔ Usa el mismo esquema que la aplicación: Flyway + ddl-auto=validate.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.torneo.api.repository.RepositoryQueryPlanTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private InscriptionRepository inscriptionRepository;
+
+    @Autowired
+    private TeamXPlayerRepository teamXPlayerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void limpiar() {
+        SqlCapture.SENTENCIAS.clear();
+    }
+
+    @Test
+    void matchesPorTorneoUsanIndiceDeTorneo() {
+        matchRepository.findByTournamentId(1L);
+        assertThat(plan(1L)).contains("IDX_MATCHES_TOURNAMENT_STATUS");
+    }
+
+    @Test
+    void inscripcionesPorTorneoUsanIndiceUnico() {
+        inscriptionRepository.findByTournamentId(1L);
+        assertThat(plan(1L)).contains("UK_INSCRIPTIONS_TOURNAMENT_TEAM");
+    }
+
+    @Test
+    void inscripcionDeEquipoEnTorneoUsaIndiceCompuesto() {
+        inscriptionRepository.findByTeam_IdAndTournament_Id(1L, 1L);
+        assertThat(plan(1L, 1L)).containsAnyOf("UK_INSCRIPTIONS_TOURNAMENT_TEAM", "IDX_INSCRIPTIONS_TEAM_TOURNAMENT");
+    }
+
+    @Test
+    void jugadorEnEquipoUsaIndiceCompuesto() {
+        teamXPlayerRepository.findByUser_IdAndTeamEntity_Id(1L, 1L);
+        assertThat(plan(1L, 1L)).containsAnyOf("UK_TXP_PLAYER_TEAM", "IDX_TXP_TEAM_PLAYER_CAPTAIN");
+    }
+
+    @Test
+    void torneosPorEstadoUsanIndiceDeEstado() {
+        tournamentRepository.findByState(GamesState.INSCRIPTION);
+        assertThat(plan(GamesState.INSCRIPTION.name()))
+                .containsAnyOf("IDX_TOURNAMENTS_STATE_CATEGORY_START", "IDX_TOURNAMENTS_STATE_KEYSET");
+    }
+
+    @Test
+    void torneosPorCategoriaUsanIndiceDeCategoria() {
+        tournamentRepository.findByCategory(GamesCategory.RPG);
+        assertThat(plan(GamesCategory.RPG.name()))
+                .containsAnyOf("IDX_TOURNAMENTS_CATEGORY_STATE", "IDX_TOURNAMENTS_CATEGORY_KEYSET");
+    }
+
+    @Test
+    void torneosPorFechaDeInicioUsanIndiceDeFecha() {
+        tournamentRepository.findByStartDate(LocalDate.of(2030, 1, 1));
+        assertThat(plan(LocalDate.of(2030, 1, 1))).contains("IDX_TOURNAMENTS_START_DATE");
+    }
+
+    // Plan de H2 para la última consulta que generó Hibernate, con los parámetros dados
+    private String plan(Object... parametros) {
+        List<String> selects = SqlCapture.SENTENCIAS.stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects).as("SQL generado por el repositorio").isNotEmpty();
+        return jdbcTemplate.queryForObject("EXPLAIN " + selects.get(selects.size() - 1), String.class, parametros);
+    }
+
+    /**
+     * Guarda cada sentencia que prepara Hibernate, sin modificarla.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> SENTENCIAS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SENTENCIAS.add(sql);
+            return sql;
+        }
+    }
+}
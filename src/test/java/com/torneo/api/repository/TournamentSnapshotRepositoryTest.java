@@ -0,0 +1,80 @@
+package com.torneo.api.repository;
+
+import com.torneo.api.enums.GamesCategory;
+import com.torneo.api.enums.GamesState;
+import com.torneo.api.models.Tournament;
+import com.torneo.api.models.TournamentSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Escritura condicional de snapshots de proyecciones sobre el esquema de las migraciones.
+ *
+ * ✔ insertIfAbsent crea el primer snapshot y no hace nada si ya hay uno (ni falla).
+ * ✔ advance solo reemplaza un snapshot por otro con last_seq mayor: uno más viejo no lo pisa.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class TournamentSnapshotRepositoryTest {
+
+    private static final LocalDateTime AHORA = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private TournamentSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long tournamentId;
+
+    @BeforeEach
+    void crearTorneo() {
+        tournamentId = tournamentRepository.saveAndFlush(Tournament.builder()
+                .name("Snapshots")
+                .game("FIFA")
+                .category(GamesCategory.SPORTS)
+                .state(GamesState.INSCRIPTION)
+                .maxTeams(8)
+                .build()).getId();
+    }
+
+    @Test
+    void elPrimerSnapshotSeInsertaUnaSolaVez() {
+        assertThat(snapshotRepository.insertIfAbsent(tournamentId, 100L, "{\"a\":1}", AHORA)).isEqualTo(1);
+        assertThat(snapshotRepository.insertIfAbsent(tournamentId, 200L, "{\"a\":2}", AHORA)).isZero();
+
+        assertThat(snapshot().getLastSeq()).isEqualTo(100L);
+        assertThat(snapshot().getState()).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    void unSnapshotMasViejoNoPisaUnoMasNuevo() {
+        snapshotRepository.insertIfAbsent(tournamentId, 200L, "{\"a\":2}", AHORA);
+
+        assertThat(snapshotRepository.advance(tournamentId, 100L, "{\"a\":1}", AHORA)).isZero();
+        assertThat(snapshotRepository.advance(tournamentId, 200L, "{\"a\":1}", AHORA)).isZero();
+        assertThat(snapshot().getLastSeq()).isEqualTo(200L);
+
+        assertThat(snapshotRepository.advance(tournamentId, 300L, "{\"a\":3}", AHORA)).isEqualTo(1);
+        assertThat(snapshot().getLastSeq()).isEqualTo(300L);
+        assertThat(snapshot().getState()).isEqualTo("{\"a\":3}");
+    }
+
+    private TournamentSnapshot snapshot() {
+        entityManager.clear();
+        return snapshotRepository.findById(tournamentId).orElseThrow();
+    }
+}
@@ -0,0 +1,115 @@
+package com.torneo.api.services;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Simulación Monte Carlo de llaves chicas con resultado conocido y semilla fija.
+ *
+ * ✔ Con la misma semilla el resultado es idéntico, sin importar cuántos hilos tenga el pool:
+ *   cada tarea parte su generador antes del fork.
+ * ✔ Dos equipos parejos convergen a 0,5 dentro del margen de un millón de simulaciones.
+ * ✔ Un equipo que gana siempre es campeón en todas las simulaciones.
+ * ✔ Un millón de simulaciones de una llave de 16 equipos termina en bastante menos de un segundo.
+ */
+class BracketSimulatorTest {
+
+    private static final int SIMULACIONES = 1_000_000;
+    private static final long SEMILLA = 42L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void crearPool() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    static void cerrarPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void dosEquiposParejosConvergenAlCincuentaPorCiento() {
+        BracketSimulator simulador = new BracketSimulator(parejos(2), new int[]{0}, new int[]{1}, new int[0]);
+
+        long[] ganadas = simulador.run(pool, SIMULACIONES, new SplittableRandom(SEMILLA));
+
+        assertThat(simulador.rounds()).isEqualTo(1);
+        assertThat(ganadas[0] + ganadas[1]).isEqualTo(SIMULACIONES);
+        // Error estándar: sqrt(0,25 / 1e6) = 0,0005; el margen es de 4 errores estándar
+        assertThat((double) ganadas[0] / SIMULACIONES).isCloseTo(0.5, within(0.002));
+    }
+
+    @Test
+    void mismaSemillaDaElMismoResultadoConCualquierCantidadDeHilos() {
+        BracketSimulator simulador = new BracketSimulator(parejos(8), new int[0], new int[0],
+                new int[]{0, 1, 2, 3, 4, 5, 6, 7});
+        ForkJoinPool unHilo = new ForkJoinPool(1);
+        try {
+            long[] secuencial = simulador.run(unHilo, SIMULACIONES, new SplittableRandom(SEMILLA));
+            long[] paralelo = simulador.run(pool, SIMULACIONES, new SplittableRandom(SEMILLA));
+
+            assertThat(paralelo).isEqualTo(secuencial);
+        } finally {
+            unHilo.shutdown();
+        }
+    }
+
+    @Test
+    void unEquipoQueGanaSiempreEsCampeonEnTodasLasSimulaciones() {
+        double[][] probabilidad = parejos(4);
+        for (int rival = 1; rival < 4; rival++) {
+            probabilidad[0][rival] = 1.0;
+            probabilidad[rival][0] = 0.0;
+        }
+        BracketSimulator simulador = new BracketSimulator(probabilidad, new int[0], new int[0], new int[]{0, 1, 2, 3});
+
+        long[] ganadas = simulador.run(pool, SIMULACIONES, new SplittableRandom(SEMILLA));
+
+        int rondas = simulador.rounds();
+        assertThat(rondas).isEqualTo(2);
+        assertThat(Arrays.copyOfRange(ganadas, 0, rondas)).containsOnly(SIMULACIONES);
+        // Los otros tres reparten la primera ronda y nunca ganan la final
+        long finalesAjenas = LongStream.range(1, 4).map(equipo -> ganadas[(int) equipo * rondas + 1]).sum();
+        assertThat(finalesAjenas).isZero();
+    }
+
+    @Test
+    void unMillonDeSimulacionesDeDieciseisEquiposTerminaEnMenosDeUnSegundo() {
+        int[] equipos = new int[16];
+        Arrays.setAll(equipos, i -> i);
+        BracketSimulator simulador = new BracketSimulator(parejos(16), new int[0], new int[0], equipos);
+        // Calentamiento: que el JIT compile simular() antes de medir
+        simulador.run(pool, SIMULACIONES, new SplittableRandom(SEMILLA));
+
+        long inicio = System.nanoTime();
+        long[] ganadas = simulador.run(pool, SIMULACIONES, new SplittableRandom(SEMILLA + 1));
+        Duration duracion = Duration.ofNanos(System.nanoTime() - inicio);
+
+        long campeones = 0;
+        for (int equipo = 0; equipo < 16; equipo++) {
+            campeones += ganadas[equipo * simulador.rounds() + simulador.rounds() - 1];
+        }
+        assertThat(campeones).isEqualTo(SIMULACIONES);
+        assertThat(duracion).isLessThan(Duration.ofSeconds(1));
+    }
+
+    private static double[][] parejos(int equipos) {
+        double[][] probabilidad = new double[equipos][equipos];
+        for (double[] fila : probabilidad) {
+            Arrays.fill(fila, 0.5);
+        }
+        return probabilidad;
+    }
+}